@@ -0,0 +1,42 @@
+package ka.chapter2.item3.clock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClockTest {
+
+    @Test
+    void manualClockTest() {
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        ManualClock clock = ManualClock.at(LocalDateTime.of(2023, 8, 1, 12, 0), seoul);
+        long start = clock.millis();
+
+        // 직접 옮기지 않으면 시간이 흐르지 않는다.
+        assertTrue(clock.millis() == start);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(clock.millis() - start == 120_000);
+        assertTrue(clock.zone().equals(seoul));
+    }
+
+    @Test
+    void tickerClockTest() throws InterruptedException {
+        ManualClock source = new ManualClock(0, ZoneId.of("UTC"));
+        try (TickerClock ticker = new TickerClock(source, Duration.ofMillis(5))) {
+            assertTrue(ticker.millis() == 0);
+
+            source.setMillis(1000);
+            // 다음 틱이 지나야 반영된다.
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (ticker.millis() != 1000 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(ticker.millis() == 1000);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ka.chapter2.item3.clock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 테스트용 시계: 직접 옮기기 전까지 시간이 흐르지 않는다.
+public class ManualClock implements MillisClock {
+    private volatile ZoneId zone;
+    private volatile long millis;
+
+    public ManualClock(long millis, ZoneId zone) {
+        this.millis = millis;
+        this.zone = zone;
+    }
+
+    public static ManualClock at(LocalDateTime localDateTime, ZoneId zone) {
+        return new ManualClock(localDateTime.atZone(zone).toInstant().toEpochMilli(), zone);
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public void setZone(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public void setMillis(long millis) {
+        this.millis = millis;
+    }
+
+    public synchronized void advance(Duration duration) {
+        millis += duration.toMillis();
+    }
+}
@@ -0,0 +1,14 @@
+package ka.chapter2.item3.clock;
+
+import java.time.ZoneId;
+
+public interface MillisClock {
+
+    long millis();
+
+    ZoneId zone();
+
+    static MillisClock system() {
+        return SystemClock.INSTANCE;
+    }
+}
@@ -0,0 +1,18 @@
+package ka.chapter2.item3.clock;
+
+import java.time.ZoneId;
+
+public enum SystemClock implements MillisClock {
+
+    INSTANCE;
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ZoneId zone() {
+        return ZoneId.systemDefault();
+    }
+}
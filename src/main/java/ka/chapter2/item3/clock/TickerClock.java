@@ -0,0 +1,54 @@
+package ka.chapter2.item3.clock;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 백그라운드 스레드가 resolution 간격으로 시간을 갱신하고, 읽는 쪽은 volatile 필드 하나만 읽는다.
+public class TickerClock implements MillisClock, AutoCloseable {
+    private final MillisClock source;
+    private final ScheduledExecutorService ticker;
+    private volatile long millis;
+    private volatile ZoneId zone;
+
+    public TickerClock(Duration resolution) {
+        this(MillisClock.system(), resolution);
+    }
+
+    public TickerClock(MillisClock source, Duration resolution) {
+        if (resolution.isZero() || resolution.isNegative()) {
+            throw new IllegalArgumentException("resolution must be positive: " + resolution);
+        }
+        this.source = source;
+        tick();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticker-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = resolution.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void tick() {
+        zone = source.zone();
+        millis = source.millis();
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public ZoneId zone() {
+        return zone;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
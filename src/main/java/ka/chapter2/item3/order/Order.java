@@ -10,6 +10,14 @@ public class Order {
         this.price = price;
     }
 
+    public String getNickname() {
+        return nickname;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
     @Override
     public String toString() {
         return "Order{" +
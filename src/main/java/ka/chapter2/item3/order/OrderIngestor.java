@@ -0,0 +1,246 @@
+package ka.chapter2.item3.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 주문을 바운디드 큐에 넣고, 소비자 스레드가 배치 단위로 OrderService에 반영한다.
+public class OrderIngestor implements AutoCloseable {
+
+    public enum Backpressure {
+        BLOCK,      // 큐에 자리가 날 때까지 호출 스레드를 대기시킨다.
+        DROP,       // 주문을 버리고 실패한 future를 돌려준다.
+        FAIL_FAST   // 즉시 RejectedExecutionException을 던진다.
+    }
+
+    private static final long POLL_MILLIS = 50;
+
+    private final OrderService service;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int batchSize;
+    private final Backpressure backpressure;
+    private final List<Thread> consumers = new ArrayList<>();
+    private volatile boolean running = true;
+    // submit은 읽기 잠금으로 "running 확인 + 큐에 넣기"를 한 번에 하고, close는 쓰기 잠금을 잡고 running을 내린다.
+    // 그래서 close가 running을 내린 뒤에는 큐에 새 주문이 들어오지 않는다.
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+    public static class Builder {
+        private final OrderService service;
+        private int capacity = 1024;
+        private int batchSize = 64;
+        private int consumerCount = 2;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private ThreadFactory threadFactory = Executors.defaultThreadFactory();
+
+        public Builder(OrderService service) {
+            this.service = Objects.requireNonNull(service);
+        }
+
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder consumerCount(int consumerCount) {
+            this.consumerCount = consumerCount;
+            return this;
+        }
+
+        public Builder backpressure(Backpressure backpressure) {
+            this.backpressure = Objects.requireNonNull(backpressure);
+            return this;
+        }
+
+        // 가상 스레드를 쓰려면 Thread.ofVirtual().factory()를 넘긴다. (JDK 21+)
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = Objects.requireNonNull(threadFactory);
+            return this;
+        }
+
+        public OrderIngestor build() {
+            if (capacity <= 0 || batchSize <= 0 || consumerCount <= 0) {
+                throw new IllegalArgumentException("capacity, batchSize, consumerCount must be positive");
+            }
+            return new OrderIngestor(this);
+        }
+    }
+
+    private OrderIngestor(Builder builder) {
+        service = builder.service;
+        queue = new ArrayBlockingQueue<>(builder.capacity);
+        batchSize = builder.batchSize;
+        backpressure = builder.backpressure;
+        for (int i = 0; i < builder.consumerCount; i++) {
+            Thread consumer = builder.threadFactory.newThread(this::consume);
+            consumers.add(consumer);
+            consumer.start();
+        }
+    }
+
+    public CompletableFuture<Order> submit(String nickname, int price) {
+        PendingOrder pending = new PendingOrder(new Order(nickname, price));
+        shutdownLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException("OrderIngestor is closed");
+            }
+            if (!enqueue(pending)) {
+                return pending.future;
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        submittedCount.increment();
+        return pending.future;
+    }
+
+    // DROP으로 버렸으면 false
+    private boolean enqueue(PendingOrder pending) {
+        switch (backpressure) {
+            case BLOCK -> {
+                try {
+                    queue.put(pending);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException(e);
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(pending)) {
+                    droppedCount.increment();
+                    pending.future.completeExceptionally(new RejectedExecutionException("order queue is full"));
+                    return false;
+                }
+            }
+            case FAIL_FAST -> {
+                if (!queue.offer(pending)) {
+                    droppedCount.increment();
+                    throw new RejectedExecutionException("order queue is full");
+                }
+            }
+        }
+        return true;
+    }
+
+    private void consume() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        List<Order> orders = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            for (PendingOrder pending : batch) {
+                orders.add(pending.order);
+            }
+            try {
+                service.makeOrders(orders);
+                for (PendingOrder pending : batch) {
+                    pending.future.complete(pending.order);
+                }
+            } catch (RuntimeException e) {
+                for (PendingOrder pending : batch) {
+                    pending.future.completeExceptionally(e);
+                }
+            }
+            processedCount.add(batch.size());
+            batchCount.increment();
+            maxBatchSize.accumulate(batch.size());
+            batch.clear();
+            orders.clear();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = batchCount.sum();
+        return batches == 0 ? 0 : (double) processedCount.sum() / batches;
+    }
+
+    // 새 주문은 거절하고, 이미 큐에 들어온 주문은 모두 반영한 뒤 종료한다.
+    // 소비자를 기다리다 인터럽트되면 인터럽트 상태를 되살리고, 큐에 남은 주문은 실패로 끝낸다.
+    @Override
+    public void close() {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        try {
+            for (Thread consumer : consumers) {
+                consumer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 소비자가 인터럽트로 먼저 끝났으면 주문이 남아 있을 수 있다. future가 끝나지 않은 채로 남지 않게 한다.
+        PendingOrder pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new RejectedExecutionException("OrderIngestor is closed"));
+        }
+    }
+
+    private static class PendingOrder {
+        private final Order order;
+        private final CompletableFuture<Order> future = new CompletableFuture<>();
+
+        private PendingOrder(Order order) {
+            this.order = order;
+        }
+    }
+}
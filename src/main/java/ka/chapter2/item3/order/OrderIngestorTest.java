@@ -0,0 +1,122 @@
+package ka.chapter2.item3.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderIngestorTest {
+
+    @Test
+    void asyncOrderTest() throws Exception {
+        OrderService service = OrderService.INSTANCE;
+        long before = service.getStatistics().getOrderCount("async1");
+
+        List<CompletableFuture<Order>> futures = new ArrayList<>();
+        try (OrderIngestor ingestor = new OrderIngestor.Builder(service)
+                .capacity(128)
+                .batchSize(32)
+                .consumerCount(2)
+                .build()) {
+            for (int i = 0; i < 1000; i++) {
+                futures.add(ingestor.submit("async1", i));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+
+            System.out.println("batchCount = " + ingestor.getBatchCount()
+                    + ", averageBatchSize = " + ingestor.getAverageBatchSize());
+            assertTrue(ingestor.getProcessedCount() == 1000);
+            assertTrue(ingestor.getMaxBatchSize() <= 32);
+        }
+
+        assertTrue(service.getStatistics().getOrderCount("async1") - before == 1000);
+        assertTrue(futures.get(10).get().getPrice() == 10);
+    }
+
+    @Test
+    void backpressureTest() throws Exception {
+        // 소비자가 막혀 있는 동안 큐가 가득 차도록 만든다.
+        CountDownLatch release = new CountDownLatch(1);
+        OrderIngestor.Builder builder = new OrderIngestor.Builder(OrderService.INSTANCE)
+                .capacity(2)
+                .batchSize(1)
+                .consumerCount(1)
+                .threadFactory(runnable -> new Thread(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    runnable.run();
+                }));
+
+        OrderIngestor dropping = builder.backpressure(OrderIngestor.Backpressure.DROP).build();
+        OrderIngestor failing = builder.backpressure(OrderIngestor.Backpressure.FAIL_FAST).build();
+        try {
+            dropping.submit("async2", 1);
+            dropping.submit("async2", 2);
+            CompletableFuture<Order> dropped = dropping.submit("async2", 3);
+
+            assertTrue(dropping.getQueueDepth() == 2);
+            assertTrue(dropping.getDroppedCount() == 1);
+            assertThrows(ExecutionException.class, dropped::get);
+
+            failing.submit("async2", 1);
+            failing.submit("async2", 2);
+            assertThrows(RejectedExecutionException.class, () -> failing.submit("async2", 3));
+        } finally {
+            // close는 소비자가 끝나기를 기다리므로, 검증이 실패해도 먼저 소비자를 풀어 줘야 멈추지 않는다.
+            release.countDown();
+            dropping.close();
+            failing.close();
+        }
+    }
+
+    @Test
+    void closeRaceTest() throws Exception {
+        // 작은 큐에 BLOCK으로 넣어 put에서 기다리는 도중에 close가 불리는 경우도 만든다.
+        for (int round = 0; round < 20; round++) {
+            OrderIngestor ingestor = new OrderIngestor.Builder(OrderService.INSTANCE)
+                    .capacity(4)
+                    .batchSize(2)
+                    .consumerCount(1)
+                    .build();
+            ConcurrentLinkedQueue<CompletableFuture<Order>> futures = new ConcurrentLinkedQueue<>();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread submitter = new Thread(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; ; i++) {
+                            futures.add(ingestor.submit("async3", i));
+                        }
+                    } catch (RejectedExecutionException e) {
+                        // close 이후의 submit은 거절된다.
+                    }
+                });
+                submitters.add(submitter);
+                submitter.start();
+            }
+            started.await();
+            Thread.sleep(round % 3);
+            ingestor.close();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+
+            // close가 끝난 뒤에는 받은 future가 모두 끝나 있어야 한다.
+            for (CompletableFuture<Order> future : futures) {
+                assertTrue(future.isDone());
+            }
+        }
+    }
+}
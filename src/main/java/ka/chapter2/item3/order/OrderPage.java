@@ -0,0 +1,42 @@
+package ka.chapter2.item3.order;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class OrderPage {
+    private final OrderSnapshot snapshot;
+    private final List<Order> orders;
+    private final int nextCursor;
+    private final int limit;
+
+    OrderPage(OrderSnapshot snapshot, List<Order> orders, int nextCursor, int limit) {
+        this.snapshot = snapshot;
+        this.orders = Collections.unmodifiableList(orders);
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public int getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor < snapshot.size();
+    }
+
+    public OrderPage next() {
+        return snapshot.page(nextCursor, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderPage{" +
+                "orders=" + orders +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
@@ -1,21 +1,54 @@
 package ka.chapter2.item3.order;
 
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 
 public class OrderRepository {
     public static final OrderRepository INSTANCE = new OrderRepository();
-    private final List<Order> orderList;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // 저장은 append-only, size는 읽기 측에 공개되는 high-water mark
+    private volatile Order[] orders;
+    private volatile int size;
+
     private OrderRepository(){
-        orderList = new LinkedList<>();
+        orders = new Order[INITIAL_CAPACITY];
+    }
+
+    public synchronized void save(Order order) {
+        Order[] current = orders;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length << 1);
+            orders = current;
+        }
+        current[size] = order;
+        size = size + 1;
     }
 
-    public void save(Order order) {
-        orderList.add(order);
+    public synchronized void saveAll(List<Order> orders) {
+        Order[] current = orders.size() > this.orders.length - size
+                ? Arrays.copyOf(this.orders, Math.max(this.orders.length << 1, size + orders.size()))
+                : this.orders;
+        int end = size;
+        for (Order order : orders) {
+            current[end++] = order;
+        }
+        this.orders = current;
+        size = end;
     }
 
     public List<Order> findAllOrder() {
-        return orderList;
+        return snapshot();
+    }
+
+    public OrderSnapshot snapshot() {
+        // size를 먼저 읽어야 해당 크기까지 채워진 배열을 보게 된다.
+        int published = size;
+        return new OrderSnapshot(orders, published);
+    }
+
+    public int count() {
+        return size;
     }
 
 }
@@ -1,19 +1,40 @@
 package ka.chapter2.item3.order;
 
-import java.util.LinkedList;
 import java.util.List;
 
 public class OrderService {
     public static final OrderService INSTANCE = new OrderService();
     private final OrderRepository repository = OrderRepository.INSTANCE;
+    private final OrderStatistics statistics = OrderStatistics.INSTANCE;
     private OrderService(){}
 
     public void makeOrder(String nickname, int price) {
-        repository.save(new Order(nickname, price));
+        Order order = new Order(nickname, price);
+        repository.save(order);
+        statistics.record(order);
+    }
+
+    void makeOrders(List<Order> orders) {
+        repository.saveAll(orders);
+        for (Order order : orders) {
+            statistics.record(order);
+        }
     }
 
     public List<Order> getOrderList() {
         return repository.findAllOrder();
     }
 
+    public OrderSnapshot getOrderSnapshot() {
+        return repository.snapshot();
+    }
+
+    public OrderPage getOrderPage(int cursor, int limit) {
+        return repository.snapshot().page(cursor, limit);
+    }
+
+    public OrderStatistics getStatistics() {
+        return statistics;
+    }
+
 }
@@ -2,6 +2,12 @@ package ka.chapter2.item3.order;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class OrderServiceTest {
 
     @Test
@@ -13,4 +19,50 @@ public class OrderServiceTest {
         System.out.println(instance.getOrderList());
 
     }
+
+    @Test
+    void snapshotIterationTest() {
+        OrderService instance = OrderService.INSTANCE;
+        instance.makeOrder("user1", 10000);
+
+        // 순회 도중 주문이 추가되어도 ConcurrentModificationException이 발생하지 않는다.
+        List<Order> orderList = instance.getOrderList();
+        int size = orderList.size();
+        int count = 0;
+        for (Order order : orderList) {
+            instance.makeOrder("user3", 5000);
+            count++;
+        }
+
+        assertTrue(count == size);
+        assertTrue(instance.getOrderList().size() == size * 2);
+    }
+
+    @Test
+    void snapshotIsReadOnlyTest() {
+        List<Order> orderList = OrderService.INSTANCE.getOrderList();
+        assertThrows(UnsupportedOperationException.class, () -> orderList.add(new Order("user4", 1000)));
+    }
+
+    @Test
+    void pagingTest() {
+        OrderService instance = OrderService.INSTANCE;
+        for (int i = 0; i < 25; i++) {
+            instance.makeOrder("page" + i, i * 1000);
+        }
+
+        OrderSnapshot snapshot = instance.getOrderSnapshot();
+        List<Order> collected = new ArrayList<>();
+        OrderPage page = snapshot.firstPage(10);
+        collected.addAll(page.getOrders());
+        while (page.hasNext()) {
+            // 페이지를 넘기는 동안 들어온 주문은 스냅샷에 보이지 않는다.
+            instance.makeOrder("late", 1);
+            page = page.next();
+            collected.addAll(page.getOrders());
+        }
+
+        assertTrue(collected.equals(snapshot));
+        assertTrue(page.getNextCursor() == snapshot.size());
+    }
 }
@@ -0,0 +1,41 @@
+package ka.chapter2.item3.order;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+public final class OrderSnapshot extends AbstractList<Order> implements RandomAccess {
+    private final Order[] orders;
+    private final int size;
+
+    OrderSnapshot(Order[] orders, int size) {
+        this.orders = orders;
+        this.size = size;
+    }
+
+    @Override
+    public Order get(int index) {
+        Objects.checkIndex(index, size);
+        return orders[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public OrderPage page(int cursor, int limit) {
+        if (cursor < 0 || cursor > size) {
+            throw new IndexOutOfBoundsException("cursor: " + cursor + ", size: " + size);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        int end = (int) Math.min((long) cursor + limit, size);
+        return new OrderPage(this, subList(cursor, end), end, limit);
+    }
+
+    public OrderPage firstPage(int limit) {
+        return page(0, limit);
+    }
+}
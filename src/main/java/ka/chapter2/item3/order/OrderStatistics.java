@@ -0,0 +1,59 @@
+package ka.chapter2.item3.order;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OrderStatistics {
+    public static final OrderStatistics INSTANCE = new OrderStatistics();
+
+    // 주문이 들어올 때마다 갱신해두고, 조회 시에는 전체 주문을 다시 훑지 않는다.
+    private final Map<String, NicknameStatistics> byNickname = new ConcurrentHashMap<>();
+    private final LongAdder totalPrice = new LongAdder();
+    private final LongAdder totalCount = new LongAdder();
+
+    private OrderStatistics(){}
+
+    void record(Order order) {
+        byNickname.computeIfAbsent(order.getNickname(), key -> new NicknameStatistics())
+                .record(order.getPrice());
+        totalPrice.add(order.getPrice());
+        totalCount.increment();
+    }
+
+    public long getTotalPrice() {
+        return totalPrice.sum();
+    }
+
+    public long getOrderCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalPrice(String nickname) {
+        NicknameStatistics stats = byNickname.get(nickname);
+        return stats == null ? 0 : stats.price.sum();
+    }
+
+    public long getOrderCount(String nickname) {
+        NicknameStatistics stats = byNickname.get(nickname);
+        return stats == null ? 0 : stats.count.sum();
+    }
+
+    public int getMaxPrice(String nickname) {
+        NicknameStatistics stats = byNickname.get(nickname);
+        return stats == null ? 0 : (int) stats.maxPrice.get();
+    }
+
+    private static class NicknameStatistics {
+        private final LongAdder price = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator maxPrice = new LongAccumulator(Math::max, Integer.MIN_VALUE);
+
+        private void record(int orderPrice) {
+            price.add(orderPrice);
+            count.increment();
+            maxPrice.accumulate(orderPrice);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ka.chapter2.item3.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderStatisticsTest {
+
+    @Test
+    void nicknameStatisticsTest() {
+        OrderService instance = OrderService.INSTANCE;
+        OrderStatistics statistics = instance.getStatistics();
+        instance.makeOrder("stats1", 10000);
+        instance.makeOrder("stats1", 30000);
+        instance.makeOrder("stats1", 20000);
+
+        assertTrue(statistics.getTotalPrice("stats1") == 60000);
+        assertTrue(statistics.getOrderCount("stats1") == 3);
+        assertTrue(statistics.getMaxPrice("stats1") == 30000);
+        assertTrue(statistics.getOrderCount("nobody") == 0);
+    }
+
+    @Test
+    void concurrentOrderTest() throws InterruptedException {
+        OrderService instance = OrderService.INSTANCE;
+        OrderStatistics statistics = instance.getStatistics();
+        long beforeCount = statistics.getOrderCount();
+        long beforePrice = statistics.getTotalPrice();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            int price = i;
+            executor.submit(() -> instance.makeOrder("stats2", price));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // 전체 주문을 다시 세지 않아도 누적값이 주문 목록과 일치해야 한다.
+        assertTrue(statistics.getOrderCount("stats2") == 1000);
+        assertTrue(statistics.getTotalPrice("stats2") == 999 * 1000 / 2);
+        assertTrue(statistics.getMaxPrice("stats2") == 999);
+        assertTrue(statistics.getOrderCount() - beforeCount == 1000);
+        assertTrue(statistics.getTotalPrice() - beforePrice == 999 * 1000 / 2);
+    }
+}
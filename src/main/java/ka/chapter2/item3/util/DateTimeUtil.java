@@ -1,29 +1,60 @@
 package ka.chapter2.item3.util;
 
+import ka.chapter2.item3.clock.MillisClock;
+
 import java.io.Serializable;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public class DateTimeUtil implements Serializable {
+    // shared 필드를 추가하기 전의 기본 UID를 그대로 써서, 이전에 직렬화한 인스턴스도 읽을 수 있게 한다.
+    private static final long serialVersionUID = -5495161916115322014L;
+
     private static final ThreadLocal<DateTimeUtil> threadLocalInstance = ThreadLocal.withInitial(() -> new DateTimeUtil());
 
     public static DateTimeUtil getInstance() {
         return threadLocalInstance.get();
     }
 
+    // getPassedTime은 스레드별 상태가 없으므로, 스레드와 무관하게 하나의 인스턴스를 공유해도 된다.
+    // 가상 스레드처럼 수명이 짧은 스레드가 많을 때는 ThreadLocal 대신 이 인스턴스를 사용한다.
+    private static class SharedHolder {
+        private static final DateTimeUtil INSTANCE = new DateTimeUtil(true);
+    }
+
+    public static DateTimeUtil getSharedInstance() {
+        return SharedHolder.INSTANCE;
+    }
+
     private static final AtomicInteger counter = new AtomicInteger(1);
 
+    private static volatile MillisClock clock = MillisClock.system();
+
+    public static void setClock(MillisClock clock) {
+        DateTimeUtil.clock = Objects.requireNonNull(clock);
+    }
+
     private final int instanceNumber;
+    private final boolean shared;
 
     private DateTimeUtil() {
-        instanceNumber = counter.getAndIncrement();
+        this(false);
+    }
+
+    private DateTimeUtil(boolean shared) {
+        this.instanceNumber = counter.getAndIncrement();
+        this.shared = shared;
+    }
+
+    static int createdInstanceCount() {
+        return counter.get() - 1;
     }
 
     public void showCurrentTime() {
-        System.out.println("Instance " + instanceNumber + ": " + System.currentTimeMillis());
+        System.out.println("Instance " + instanceNumber + ": " + clock.millis());
     }
 
     private static final int SEC = 60;
@@ -33,8 +64,9 @@ public class DateTimeUtil implements Serializable {
     private static final int MONTH = 12;
 
     public String getPassedTime(LocalDateTime localDateTime) {
-        Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
-        long curTime = System.currentTimeMillis();
+        MillisClock clock = DateTimeUtil.clock;
+        Instant instant = localDateTime.atZone(clock.zone()).toInstant();
+        long curTime = clock.millis();
         long regTime = instant.toEpochMilli();
         long diffTime = (curTime - regTime) / 1000;
 
@@ -57,11 +89,15 @@ public class DateTimeUtil implements Serializable {
         return DateTimeUtil::getInstance;
     }
 
+    public static Supplier<DateTimeUtil> getSharedDateTimeUtilSupplier() {
+        return DateTimeUtil::getSharedInstance;
+    }
+
     public static String getCurrentTime(LocalDateTime localDateTime) {
         return localDateTime.toString();
     }
 
     private Object readResolve() {
-        return getInstance();
+        return shared ? getSharedInstance() : getInstance();
     }
 }
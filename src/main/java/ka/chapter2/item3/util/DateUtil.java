@@ -1,8 +1,10 @@
 package ka.chapter2.item3.util;
 
+import ka.chapter2.item3.clock.MillisClock;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.Objects;
 
 public enum DateUtil {
 
@@ -14,9 +16,16 @@ public enum DateUtil {
     private static final int DAY = 30;
     private static final int MONTH = 12;
 
+    private volatile MillisClock clock = MillisClock.system();
+
+    public void setClock(MillisClock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
     public String getPassedTime(LocalDateTime localDateTime) {
-        Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
-        long curTime = System.currentTimeMillis();
+        MillisClock clock = this.clock;
+        Instant instant = localDateTime.atZone(clock.zone()).toInstant();
+        long curTime = clock.millis();
         long regTime = instant.toEpochMilli();
         long diffTime = (curTime - regTime) / 1000;
 
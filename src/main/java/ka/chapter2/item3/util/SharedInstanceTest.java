@@ -0,0 +1,80 @@
+package ka.chapter2.item3.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SharedInstanceTest {
+
+    @Test
+    void sharedInstanceTest() throws InterruptedException {
+        DateTimeUtil[] fromOtherThread = new DateTimeUtil[1];
+        Thread thread = new Thread(() -> fromOtherThread[0] = DateTimeUtil.getSharedInstance());
+        thread.start();
+        thread.join();
+
+        // 스레드가 달라도 같은 인스턴스를 반환한다.
+        assertTrue(fromOtherThread[0] == DateTimeUtil.getSharedInstance());
+        assertTrue(DateTimeUtil.getSharedDateTimeUtilSupplier().get() == DateTimeUtil.getSharedInstance());
+    }
+
+    @Test
+    void instanceChurnBenchmark() throws InterruptedException {
+        // JDK 21 이상이면 가상 스레드, 아니면 플랫폼 스레드로 측정한다.
+        ThreadFactory factory = virtualThreadFactory();
+        int threadCount = factory == null ? 10_000 : 100_000;
+        if (factory == null) {
+            factory = Thread::new;
+        }
+
+        runPerThread("ThreadLocal", DateTimeUtil.getDateTimeUtilSupplier(), factory, threadCount);
+
+        // 공유 인스턴스를 미리 만들어 두면, 스레드를 몇 개 돌려도 새 인스턴스가 생기지 않아야 한다.
+        DateTimeUtil.getSharedInstance();
+        int created = runPerThread("Shared", DateTimeUtil.getSharedDateTimeUtilSupplier(), factory, threadCount);
+        assertTrue(created == 0);
+    }
+
+    private static int runPerThread(String name, Supplier<DateTimeUtil> supplier,
+                                     ThreadFactory factory, int threadCount) throws InterruptedException {
+        LocalDateTime registeredAt = LocalDateTime.now().minusMinutes(5);
+        LongAdder calls = new LongAdder();
+        int before = DateTimeUtil.createdInstanceCount();
+
+        long startTime = System.nanoTime();
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = factory.newThread(() -> {
+                supplier.get().getPassedTime(registeredAt);
+                calls.increment();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = (System.nanoTime() - startTime) / 1_000_000;
+
+        int created = DateTimeUtil.createdInstanceCount() - before;
+        System.out.println(name + ": threads = " + threadCount + ", instances = " + created + ", " + elapsed + "ms");
+        assertTrue(calls.sum() == threadCount);
+        return created;
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
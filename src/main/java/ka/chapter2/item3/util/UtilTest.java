@@ -1,11 +1,16 @@
 package ka.chapter2.item3.util;
 
+import ka.chapter2.item3.clock.ManualClock;
+import ka.chapter2.item3.clock.MillisClock;
+
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,6 +46,19 @@ public class UtilTest {
         assertTrue(time.equals("2시간 전"));
     }
 
+    @Test
+    void manualClockTest() {
+        LocalDateTime registeredAt = LocalDateTime.of(2023, 8, 1, 12, 0);
+        ManualClock clock = ManualClock.at(registeredAt, ZoneId.of("Asia/Seoul"));
+        DateUtil.INSTANCE.setClock(clock);
+        try {
+            clock.advance(Duration.ofDays(2));
+            assertTrue(DateUtil.INSTANCE.getPassedTime(registeredAt).equals("2일 전"));
+        } finally {
+            DateUtil.INSTANCE.setClock(MillisClock.system());
+        }
+    }
+
     @Test
     void utilReflectionTest() {
         try {
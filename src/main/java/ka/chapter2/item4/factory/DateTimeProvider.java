@@ -4,4 +4,8 @@ import java.time.LocalDateTime;
 
 public interface DateTimeProvider {
     String getPassedTime(LocalDateTime localDateTime);
+
+    String getPassedTime(long epochMillis);
+
+    String[] getPassedTimes(long[] epochMillis);
 }
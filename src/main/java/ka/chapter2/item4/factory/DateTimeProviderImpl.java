@@ -1,39 +1,65 @@
 package ka.chapter2.item4.factory;
 
-import java.time.Instant;
+import ka.chapter2.item3.clock.MillisClock;
+
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.zone.ZoneRules;
 
 public class DateTimeProviderImpl implements DateTimeProvider {
-    private static final int SEC = 60;
-    private static final int MIN = 60;
-    private static final int HOUR = 24;
-    private static final int DAY = 30;
-    private static final int MONTH = 12;
+    private final MillisClock clock;
+    // 규칙을 얻은 시간대와 함께 들고 있다가 시계의 시간대가 바뀔 때만 다시 구한다.
+    private volatile Zone zone;
+
+    public DateTimeProviderImpl() {
+        this(MillisClock.system());
+    }
+
+    public DateTimeProviderImpl(MillisClock clock) {
+        this.clock = clock;
+        this.zone = new Zone(clock.zone());
+    }
 
     @Override
     public String getPassedTime(LocalDateTime localDateTime) {
-        Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
-        long curTime = System.currentTimeMillis();
-        long regTime = instant.toEpochMilli();
-        long diffTime = getDiffTime(curTime, regTime);
-
-        if (diffTime < SEC) {
-            return diffTime + "초 전";
-        } else if ((diffTime /= SEC) < MIN) {
-            return diffTime + "분 전";
-        } else if ((diffTime /= MIN) < HOUR) {
-            return diffTime + "시간 전";
-        } else if ((diffTime /= HOUR) < DAY) {
-            return diffTime + "일 전";
-        } else if ((diffTime /= DAY) < MONTH) {
-            return diffTime + "달 전";
-        } else {
-            return diffTime + "년 전";
+        return getPassedTime(toEpochMilli(localDateTime));
+    }
+
+    @Override
+    public String getPassedTime(long epochMillis) {
+        return PassedTimeFormatter.format(epochMillis, clock.millis());
+    }
+
+    @Override
+    public String[] getPassedTimes(long[] epochMillis) {
+        String[] passedTimes = new String[epochMillis.length];
+        PassedTimeFormatter.parallelFormatAll(epochMillis, clock.millis(), passedTimes);
+        return passedTimes;
+    }
+
+    private long toEpochMilli(LocalDateTime localDateTime) {
+        ZoneRules zoneRules = zoneRules(clock.zone());
+        long epochSecond = localDateTime.toEpochSecond(zoneRules.getOffset(localDateTime));
+        return epochSecond * 1000 + localDateTime.getNano() / 1_000_000;
+    }
+
+    // 대부분의 시계는 같은 ZoneId 인스턴스를 돌려주므로 참조 비교로 끝난다.
+    private ZoneRules zoneRules(ZoneId zoneId) {
+        Zone cached = zone;
+        if (cached.id != zoneId && !cached.id.equals(zoneId)) {
+            cached = new Zone(zoneId);
+            zone = cached;
         }
+        return cached.rules;
     }
 
-    private long getDiffTime(long curTime, long regTime) {
-        return (curTime - regTime) / 1000;
+    private static final class Zone {
+        private final ZoneId id;
+        private final ZoneRules rules;
+
+        private Zone(ZoneId id) {
+            this.id = id;
+            this.rules = id.getRules();
+        }
     }
 }
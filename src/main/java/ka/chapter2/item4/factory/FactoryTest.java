@@ -1,9 +1,13 @@
 package ka.chapter2.item4.factory;
 
+import ka.chapter2.item3.clock.ManualClock;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,4 +29,36 @@ public class FactoryTest {
         System.out.println(passedTime);
         assertTrue(passedTime.equals("2분 전"));
     }
+
+    @Test
+    @DisplayName("고정된 시계로 벽시계 시간에 의존하지 않는 테스트")
+    void manualClockTest() {
+        LocalDateTime registeredAt = LocalDateTime.of(2023, 8, 1, 12, 0);
+        ManualClock clock = ManualClock.at(registeredAt, ZoneId.of("Asia/Seoul"));
+        DateTimeProvider provider = new DateTimeProviderImpl(clock);
+
+        assertTrue(provider.getPassedTime(registeredAt).equals("0초 전"));
+
+        clock.advance(Duration.ofHours(3));
+        assertTrue(provider.getPassedTime(registeredAt).equals("3시간 전"));
+    }
+
+    @Test
+    @DisplayName("시계의 시간대가 바뀌면 바뀐 시간대로 계산한다")
+    void zoneChangeTest() {
+        LocalDateTime registeredAt = LocalDateTime.of(2023, 8, 1, 12, 0);
+        ManualClock clock = ManualClock.at(registeredAt, ZoneId.of("Asia/Seoul"));
+        DateTimeProvider provider = new DateTimeProviderImpl(clock);
+
+        assertTrue(provider.getPassedTime(registeredAt).equals("0초 전"));
+
+        // 같은 순간이라도 UTC에서 본 12시는 서울의 12시보다 9시간 뒤다.
+        clock.setZone(ZoneId.of("UTC"));
+        clock.advance(Duration.ofHours(10));
+        assertTrue(provider.getPassedTime(registeredAt).equals("1시간 전"));
+
+        // 원래 시간대로 돌아오면 캐시한 규칙도 다시 바뀐다.
+        clock.setZone(ZoneId.of("Asia/Seoul"));
+        assertTrue(provider.getPassedTime(registeredAt).equals("10시간 전"));
+    }
 }
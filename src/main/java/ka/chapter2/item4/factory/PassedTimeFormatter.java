@@ -0,0 +1,78 @@
+package ka.chapter2.item4.factory;
+
+import java.util.stream.IntStream;
+
+// 경과 시간(초)을 "n초 전" 형태로 바꾼다. 자주 쓰이는 값은 미리 만들어 둔 문자열을 그대로 돌려준다.
+public final class PassedTimeFormatter {
+    private static final int SEC = 60;
+    private static final int MIN = 60;
+    private static final int HOUR = 24;
+    private static final int DAY = 30;
+    private static final int MONTH = 12;
+    private static final int CACHED_YEARS = 100;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final String[] SECONDS = table(SEC, "초 전");
+    private static final String[] MINUTES = table(MIN, "분 전");
+    private static final String[] HOURS = table(HOUR, "시간 전");
+    private static final String[] DAYS = table(DAY, "일 전");
+    private static final String[] MONTHS = table(MONTH, "달 전");
+    private static final String[] YEARS = table(CACHED_YEARS, "년 전");
+
+    private PassedTimeFormatter() {
+        throw new AssertionError();
+    }
+
+    public static String format(long regMillis, long curMillis) {
+        return formatSeconds((curMillis - regMillis) / 1000);
+    }
+
+    // 같은 기준 시각(curMillis)으로 여러 시각을 한 번에 변환한다.
+    public static void formatAll(long[] regMillis, long curMillis, String[] out) {
+        checkLength(regMillis, out);
+        for (int i = 0; i < regMillis.length; i++) {
+            out[i] = format(regMillis[i], curMillis);
+        }
+    }
+
+    public static void parallelFormatAll(long[] regMillis, long curMillis, String[] out) {
+        checkLength(regMillis, out);
+        if (regMillis.length < PARALLEL_THRESHOLD) {
+            formatAll(regMillis, curMillis, out);
+            return;
+        }
+        // out이 더 길 수 있으므로 regMillis 길이만큼만 채우고 나머지 칸은 순차 버전처럼 그대로 둔다.
+        IntStream.range(0, regMillis.length).parallel().forEach(i -> out[i] = format(regMillis[i], curMillis));
+    }
+
+    public static String formatSeconds(long diffTime) {
+        if (diffTime < SEC) {
+            // 미래 시각(음수)은 캐시 대상이 아니다.
+            return diffTime >= 0 ? SECONDS[(int) diffTime] : diffTime + "초 전";
+        } else if ((diffTime /= SEC) < MIN) {
+            return MINUTES[(int) diffTime];
+        } else if ((diffTime /= MIN) < HOUR) {
+            return HOURS[(int) diffTime];
+        } else if ((diffTime /= HOUR) < DAY) {
+            return DAYS[(int) diffTime];
+        } else if ((diffTime /= DAY) < MONTH) {
+            return MONTHS[(int) diffTime];
+        } else {
+            return diffTime < CACHED_YEARS ? YEARS[(int) diffTime] : diffTime + "년 전";
+        }
+    }
+
+    private static void checkLength(long[] regMillis, String[] out) {
+        if (out.length < regMillis.length) {
+            throw new IllegalArgumentException("out.length(" + out.length + ") < regMillis.length(" + regMillis.length + ")");
+        }
+    }
+
+    private static String[] table(int size, String suffix) {
+        String[] table = new String[size];
+        for (int i = 0; i < size; i++) {
+            table[i] = (i + suffix).intern();
+        }
+        return table;
+    }
+}
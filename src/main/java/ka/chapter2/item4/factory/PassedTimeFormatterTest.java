@@ -0,0 +1,136 @@
+package ka.chapter2.item4.factory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PassedTimeFormatterTest {
+
+    @Test
+    @DisplayName("기존 문자열 조합 방식과 같은 결과를 반환한다.")
+    void sameAsLegacyTest() {
+        long[] diffs = {-5, 0, 1, 59, 60, 61, 3599, 3600, 86399, 86400,
+                2591999, 2592000, 31103999, 31104000, 31104000L * 150};
+        for (long diff : diffs) {
+            assertTrue(legacyFormat(diff).equals(PassedTimeFormatter.formatSeconds(diff)));
+        }
+    }
+
+    @Test
+    @DisplayName("자주 쓰이는 값은 매번 같은 문자열 인스턴스를 돌려준다.")
+    void cachedStringTest() {
+        assertTrue(PassedTimeFormatter.formatSeconds(30) == PassedTimeFormatter.formatSeconds(30));
+        assertTrue(PassedTimeFormatter.formatSeconds(7200) == "2시간 전");
+    }
+
+    @Test
+    @DisplayName("epoch millis로 경과 시간을 구한다.")
+    void epochMillisTest() {
+        DateTimeProvider provider = DateTimeProviderFactory.getInstance();
+        String passedTime = provider.getPassedTime(System.currentTimeMillis() - 2 * 60 * 1000);
+        assertTrue(passedTime.equals("2분 전"));
+    }
+
+    @Test
+    @DisplayName("여러 시각을 같은 기준 시각으로 한 번에 변환한다.")
+    void formatAllTest() {
+        long now = System.currentTimeMillis();
+        long[] epochMillis = new long[200_000];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = now - i * 997L;
+        }
+
+        String[] sequential = new String[epochMillis.length];
+        String[] parallel = new String[epochMillis.length];
+        PassedTimeFormatter.formatAll(epochMillis, now, sequential);
+        PassedTimeFormatter.parallelFormatAll(epochMillis, now, parallel);
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            assertTrue(sequential[i].equals(PassedTimeFormatter.format(epochMillis[i], now)));
+            assertTrue(sequential[i] == parallel[i]);
+        }
+        assertTrue(sequential[0].equals("0초 전"));
+
+        String[] passedTimes = DateTimeProviderFactory.getInstance().getPassedTimes(new long[]{now - 3_600_000});
+        assertTrue(passedTimes[0].equals("1시간 전"));
+    }
+
+    @Test
+    @DisplayName("out이 입력보다 길어도 입력 길이만큼만 채운다.")
+    void longerOutTest() {
+        long now = System.currentTimeMillis();
+        long[] epochMillis = new long[1 << 16];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = now - i * 1000L;
+        }
+        String[] sequential = new String[epochMillis.length + 10];
+        String[] parallel = new String[epochMillis.length + 10];
+        PassedTimeFormatter.formatAll(epochMillis, now, sequential);
+        PassedTimeFormatter.parallelFormatAll(epochMillis, now, parallel);
+
+        for (int i = 0; i < sequential.length; i++) {
+            assertTrue(sequential[i] == parallel[i]);
+        }
+        assertTrue(parallel[epochMillis.length - 1] != null);
+        assertTrue(parallel[epochMillis.length] == null);
+    }
+
+    @Test
+    void passedTimeBenchmark() {
+        int count = 5_000_000;
+        long now = System.currentTimeMillis();
+        LocalDateTime[] dateTimes = new LocalDateTime[count];
+        long[] epochMillis = new long[count];
+        for (int i = 0; i < count; i++) {
+            epochMillis[i] = now - (i % 100_000) * 1000L;
+            dateTimes[i] = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[i]), ZoneId.systemDefault());
+        }
+
+        long startTime = System.nanoTime();
+        int legacyLength = 0;
+        for (LocalDateTime dateTime : dateTimes) {
+            legacyLength += legacyPassedTime(dateTime).length();
+        }
+        System.out.println("legacy = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        DateTimeProvider provider = DateTimeProviderFactory.getInstance();
+        startTime = System.nanoTime();
+        int length = 0;
+        for (long millis : epochMillis) {
+            length += provider.getPassedTime(millis).length();
+        }
+        System.out.println("epoch millis = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        // 두 루프가 실행되는 시점이 달라 결과 문자열은 조금씩 다를 수 있다.
+        assertTrue(legacyLength > 0 && length > 0);
+    }
+
+    // 변경 전 DateTimeProviderImpl.getPassedTime
+    private static String legacyPassedTime(LocalDateTime localDateTime) {
+        Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        long curTime = System.currentTimeMillis();
+        long regTime = instant.toEpochMilli();
+        return legacyFormat((curTime - regTime) / 1000);
+    }
+
+    private static String legacyFormat(long diffTime) {
+        if (diffTime < 60) {
+            return diffTime + "초 전";
+        } else if ((diffTime /= 60) < 60) {
+            return diffTime + "분 전";
+        } else if ((diffTime /= 60) < 24) {
+            return diffTime + "시간 전";
+        } else if ((diffTime /= 24) < 30) {
+            return diffTime + "일 전";
+        } else if ((diffTime /= 30) < 12) {
+            return diffTime + "달 전";
+        } else {
+            return diffTime + "년 전";
+        }
+    }
+}
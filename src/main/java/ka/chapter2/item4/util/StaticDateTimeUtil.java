@@ -1,10 +1,13 @@
 package ka.chapter2.item4.util;
 
+import ka.chapter2.item3.clock.MillisClock;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.Objects;
 
 public class StaticDateTimeUtil {
+    private static volatile MillisClock clock = MillisClock.system();
     public static LocalDateTime localDateTime = LocalDateTime.now();
     private static final int SEC = 60;
     private static final int MIN = 60;
@@ -12,9 +15,14 @@ public class StaticDateTimeUtil {
     private static final int DAY = 30;
     private static final int MONTH = 12;
 
+    public static void setClock(MillisClock clock) {
+        StaticDateTimeUtil.clock = Objects.requireNonNull(clock);
+    }
+
     public static String getPassedTime() {
-        Instant instant = localDateTime.atZone(ZoneId.systemDefault()).toInstant();
-        long curTime = System.currentTimeMillis();
+        MillisClock clock = StaticDateTimeUtil.clock;
+        Instant instant = localDateTime.atZone(clock.zone()).toInstant();
+        long curTime = clock.millis();
         long regTime = instant.toEpochMilli();
         long diffTime = getDiffTime(curTime, regTime);
 
@@ -0,0 +1,261 @@
+package ka.chapter2.item5.lexicon;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 블록 블룸 필터로 사전에 확실히 없는 단어를 먼저 걸러내고, 나머지만 원래 사전에 묻는다.
+// 한 단어의 비트는 모두 같은 512비트(캐시 라인 하나) 블록 안에 있다.
+public class BloomFilterLexicon implements Lexicon, MemoryFootprint {
+    private static final int BLOCK_BITS = 512;
+    private static final int LONGS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final int BLOCK_SHIFT = Integer.numberOfTrailingZeros(BLOCK_BITS);
+    private static final int BITS_PER_HASH = Long.SIZE / BLOCK_SHIFT;
+
+    private final Lexicon dictionary;
+    private final double falsePositiveRate;
+    private final Executor executor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Filter filter;
+
+    private BloomFilterLexicon(Lexicon dictionary, double falsePositiveRate, Executor executor) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        this.dictionary = Objects.requireNonNull(dictionary);
+        this.falsePositiveRate = falsePositiveRate;
+        this.executor = Objects.requireNonNull(executor);
+        this.filter = new Filter(dictionary.generation(), dictionary.words(), falsePositiveRate);
+    }
+
+    public static BloomFilterLexicon of(Lexicon dictionary, double falsePositiveRate) {
+        return of(dictionary, falsePositiveRate, ForkJoinPool.commonPool());
+    }
+
+    // executor는 감싼 사전이 바뀌었을 때 필터를 다시 만드는 데 쓴다.
+    public static BloomFilterLexicon of(Lexicon dictionary, double falsePositiveRate, Executor executor) {
+        return new BloomFilterLexicon(dictionary, falsePositiveRate, executor);
+    }
+
+    @Override
+    public boolean isContainsWord(String word) {
+        return mightContain(word) && dictionary.isContainsWord(word);
+    }
+
+    @Override
+    public boolean isContainsWord(CharSequence word) {
+        return mightContain(word) && dictionary.isContainsWord(word);
+    }
+
+    @Override
+    public List<String> words() {
+        return dictionary.words();
+    }
+
+    @Override
+    public long generation() {
+        return dictionary.generation();
+    }
+
+    public boolean mightContain(CharSequence word) {
+        Filter current = currentFilter();
+        // 필터를 다시 만드는 동안에는 거르지 않고 감싼 사전에 맡긴다.
+        return current == null || current.mightContain(word);
+    }
+
+    // 감싼 사전이 바뀌었으면(generation 변경) 옛 필터를 쓰지 않는다.
+    // 옛 필터는 새로 들어온 단어를 걸러내 버리므로, 블룸 필터에서 있어서는 안 되는 미탐이 생긴다.
+    // 새 필터는 executor에서 한 번만 만들고, 다 만들어지면 참조만 바꿔 끼우므로 조회는 기다리지 않는다.
+    private Filter currentFilter() {
+        Filter current = filter;
+        if (current.generation != dictionary.generation()) {
+            rebuild();
+            return null;
+        }
+        return current;
+    }
+
+    private void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    // generation을 먼저 읽어야 그보다 오래된 단어 목록으로 만든 필터가 최신으로 보이지 않는다.
+                    long generation = dictionary.generation();
+                    filter = new Filter(generation, dictionary.words(), falsePositiveRate);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 조회에서 다시 시도한다. 그동안은 감싼 사전으로 조회한다.
+            rebuilding.set(false);
+        }
+    }
+
+    // 아래 값들은 가장 최근에 만든 필터 기준이다.
+    public int getHashCount() {
+        return filter.hashCount;
+    }
+
+    public long getBitCount() {
+        return (long) filter.bits.length * Long.SIZE;
+    }
+
+    public long getMemoryBytes() {
+        return (long) filter.bits.length * Long.BYTES;
+    }
+
+    // 필터와 감싼 사전을 합친 크기. 감싼 사전의 크기를 알 수 없으면 필터 크기만 센다.
+    @Override
+    public long estimatedBytes() {
+        long bytes = getMemoryBytes();
+        if (dictionary instanceof MemoryFootprint footprint) {
+            bytes += footprint.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    // 블록 구조까지 반영한 예상 오탐률
+    public double expectedFalsePositiveRate() {
+        Filter current = filter;
+        return blockedFalsePositiveRate(current.insertions, current.blockCount, current.hashCount);
+    }
+
+    // 단어 목록 하나로 만든 필터. 만든 뒤에는 바뀌지 않는다.
+    private static final class Filter {
+        private final long generation;
+        private final long[] bits;
+        private final int blockCount;
+        private final int hashCount;
+        private final int insertions;
+
+        private Filter(long generation, List<String> words, double falsePositiveRate) {
+            this.generation = generation;
+            int n = Math.max(1, words.size());
+
+            // 표준 공식 m = -n ln(p) / (ln 2)^2 에서 시작한다. 블록마다 들어가는 단어 수가 고르지 않아
+            // 블록 필터의 오탐률은 이보다 높으므로, 블록 오탐률이 p 이하가 될 때까지 블록 수를 늘린다.
+            double ln2 = Math.log(2);
+            long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+            long blocks = Math.max(1, (optimalBits + BLOCK_BITS - 1) / BLOCK_BITS);
+            int k = bestHashCount(n, blocks);
+            while (blockedFalsePositiveRate(n, blocks, k) > falsePositiveRate) {
+                blocks += Math.max(1, blocks / 64);
+                k = bestHashCount(n, blocks);
+            }
+            if (blocks * LONGS_PER_BLOCK > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("filter is too large for " + n + " words at " + falsePositiveRate);
+            }
+            this.blockCount = (int) blocks;
+            this.hashCount = k;
+            this.bits = new long[blockCount * LONGS_PER_BLOCK];
+            this.insertions = words.size();
+
+            for (String word : words) {
+                put(word);
+            }
+        }
+
+        private boolean mightContain(CharSequence word) {
+            long hash = hash(word);
+            int base = block(hash) * LONGS_PER_BLOCK;
+            long h = hash;
+            for (int i = 0; i < hashCount; i++) {
+                int bit = bitIndex(h, i);
+                if (i % BITS_PER_HASH == BITS_PER_HASH - 1) {
+                    h = remix(h);
+                }
+                if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(String word) {
+            long hash = hash(word);
+            int base = block(hash) * LONGS_PER_BLOCK;
+            long h = hash;
+            for (int i = 0; i < hashCount; i++) {
+                int bit = bitIndex(h, i);
+                if (i % BITS_PER_HASH == BITS_PER_HASH - 1) {
+                    h = remix(h);
+                }
+                bits[base + (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        // 블록 번호는 hash를 다른 상수로 한 번 더 섞은 값에서 뽑아 비트 위치와 상관이 없게 한다. (h * blockCount) >>> 32
+        private int block(long hash) {
+            long h = (hash ^ (hash >>> 32)) * 0x9e3779b97f4a7c15L;
+            h ^= h >>> 29;
+            return (int) (((h >>> 32) * blockCount) >>> 32);
+        }
+    }
+
+    // 블록 안의 비트 위치는 64비트 해시를 9비트씩 잘라 7개를 쓰고, 모자라면 해시를 다시 섞어 이어 쓴다.
+    // h1 + i * h2 식의 이중 해싱은 블록 안에서 9비트씩만 남아 단어끼리 같은 등차수열을 공유하기 쉽고,
+    // 그만큼 오탐이 늘어난다.
+    private static int bitIndex(long h, int i) {
+        return (int) (h >>> (BLOCK_SHIFT * (i % BITS_PER_HASH))) & (BLOCK_BITS - 1);
+    }
+
+    private static long remix(long h) {
+        h ^= h >>> 31;
+        h *= 0xbf58476d1ce4e5b9L;
+        return h ^ (h >>> 29);
+    }
+
+    // 대소문자를 구분하지 않는 사전이 있으므로 항상 소문자로 접어서 해시한다.
+    // 이 때문에 생기는 오탐은 원래 사전이 걸러낸다.
+    private static long hash(CharSequence word) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h = (h ^ Character.toLowerCase(word.charAt(i))) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 블록 하나에 들어가는 단어 수는 평균 n / blocks인 포아송 분포를 따른다.
+    // 단어 j개가 들어간 블록의 오탐률 (1 - (1 - 1/B)^(kj))^k 를 그 분포로 평균 낸다.
+    static double blockedFalsePositiveRate(long n, long blocks, int k) {
+        double lambda = (double) n / blocks;
+        double bitMissing = 1 - 1.0 / BLOCK_BITS;
+        int maxJ = (int) Math.ceil(lambda + 12 * Math.sqrt(lambda) + 12);
+        // j = 0부터 확률을 곱해 나가면 lambda가 클 때 e^-lambda가 0으로 떨어지므로 로그로 계산한다.
+        double logPoisson = -lambda;
+        double rate = 0;
+        for (int j = 0; j <= maxJ; j++) {
+            if (j > 0) {
+                logPoisson += Math.log(lambda / j);
+            }
+            rate += Math.exp(logPoisson) * Math.pow(1 - Math.pow(bitMissing, (double) k * j), k);
+        }
+        return rate;
+    }
+
+    private static int bestHashCount(long n, long blocks) {
+        int nominal = Math.max(1, (int) Math.round((double) blocks * BLOCK_BITS / n * Math.log(2)));
+        int best = nominal;
+        double bestRate = blockedFalsePositiveRate(n, blocks, nominal);
+        for (int k = Math.max(1, nominal - 3); k <= nominal + 3; k++) {
+            double rate = blockedFalsePositiveRate(n, blocks, k);
+            if (rate < bestRate) {
+                best = k;
+                bestRate = rate;
+            }
+        }
+        return best;
+    }
+}
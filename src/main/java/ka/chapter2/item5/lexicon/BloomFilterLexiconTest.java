@@ -0,0 +1,103 @@
+package ka.chapter2.item5.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterLexiconTest {
+
+    @Test
+    void decoratorTest() {
+        // 어떤 Lexicon이든 감싸서 SpellChecker에 주입할 수 있다.
+        SpellChecker english = new SpellChecker(BloomFilterLexicon.of(new EnglishLexicon(), 0.01));
+        assertTrue(english.isValid("Apple"));
+        assertFalse(english.isValid("grape"));
+
+        SpellChecker korean = new SpellChecker(BloomFilterLexicon.of(new KoreanLexicon(), 0.01));
+        assertTrue(korean.isValid("사과"));
+        assertFalse(korean.isValid("포도"));
+    }
+
+    @Test
+    void reloadedDictionaryTest() throws Exception {
+        // 필터를 다시 만드는 작업은 테스트가 직접 실행할 때까지 미뤄 둔다.
+        List<Runnable> rebuilds = new ArrayList<>();
+        ReloadableLexicon reloadable = new ReloadableLexicon(HashLexicon.of(List.of("apple", "banana"), true));
+        BloomFilterLexicon lexicon = BloomFilterLexicon.of(reloadable, 0.01, rebuilds::add);
+        SpellChecker checker = new SpellChecker(lexicon);
+        assertFalse(checker.isValid("cherry"));
+
+        reloadable.reload(() -> HashLexicon.of(List.of("apple", "cherry"), true)).get();
+
+        // 새 필터가 만들어지기 전에도 기다리지 않고 감싼 사전으로 조회해 새 단어를 걸러내지 않는다.
+        assertTrue(lexicon.generation() == 1);
+        assertTrue(checker.isValid("cherry"));
+        assertFalse(checker.isValid("banana"));
+        assertTrue(checker.suggest("chery", 2, 5).equals(List.of("cherry")));
+        // 조회가 여러 번 있어도 다시 만드는 작업은 하나만 맡긴다.
+        assertTrue(rebuilds.size() == 1);
+
+        rebuilds.remove(0).run();
+        assertTrue(lexicon.mightContain("cherry"));
+        assertTrue(checker.isValid("cherry"));
+        assertFalse(checker.isValid("banana"));
+        assertTrue(rebuilds.isEmpty());
+    }
+
+    @Test
+    void falsePositiveRateTest() {
+        Random random = new Random(37);
+        Set<String> words = new HashSet<>();
+        while (words.size() < 200_000) {
+            words.add(randomWord(random));
+        }
+
+        // 시행 횟수는 기대 오탐이 수백 개 이상 나오도록 잡는다.
+        assertFalsePositiveRate(words, 0.01, 200_000, random);
+        assertFalsePositiveRate(words, 0.001, 1_000_000, random);
+        assertFalsePositiveRate(words, 0.0001, 3_000_000, random);
+    }
+
+    private static void assertFalsePositiveRate(Set<String> words, double configured, int trials, Random random) {
+        BloomFilterLexicon lexicon = BloomFilterLexicon.of(HashLexicon.of(words, false), configured);
+
+        // 사전에 있는 단어는 절대 걸러지면 안 된다.
+        for (String word : words) {
+            assertTrue(lexicon.mightContain(word));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < trials; i++) {
+            String word = randomWord(random) + "#";
+            if (lexicon.mightContain(word)) {
+                falsePositives++;
+            }
+        }
+        double measured = (double) falsePositives / trials;
+        System.out.println("configured fpp = " + configured
+                + ", hashCount = " + lexicon.getHashCount()
+                + ", memory = " + lexicon.getMemoryBytes() + " bytes"
+                + ", bits/word = " + (double) lexicon.getBitCount() / words.size()
+                + ", expected fpp = " + lexicon.expectedFalsePositiveRate()
+                + ", measured fpp = " + measured);
+        assertTrue(lexicon.expectedFalsePositiveRate() <= configured);
+        // 표본 오차를 감안해 설정값의 1.25배까지 허용한다.
+        assertTrue(measured < configured * 1.25);
+    }
+
+    private static String randomWord(Random random) {
+        int length = 5 + random.nextInt(8);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,38 @@
+package ka.chapter2.item5.lexicon;
+
+// 토큰마다 String을 만들지 않도록 char 배열의 구간을 가리키는 재사용 가능한 CharSequence
+final class CharSlice implements CharSequence {
+    private final char[] chars;
+    private int start;
+    private int length;
+
+    CharSlice(char[] chars) {
+        this.chars = chars;
+    }
+
+    CharSlice set(int start, int end) {
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new String(chars, start + from, to - from);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, start, length);
+    }
+}
@@ -0,0 +1,61 @@
+package ka.chapter2.item5.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DocumentCheckTest {
+
+    @Test
+    void checkTest() throws IOException {
+        SpellChecker checker = new SpellChecker(HashLexicon.of(List.of("apple", "banana", "cherry"), true));
+        String document = "Apple, banana and cherry! Aple banana.";
+
+        List<Misspelling> misspellings = checker.check(new StringReader(document));
+
+        assertTrue(misspellings.equals(List.of(
+                new Misspelling("and", 14),
+                new Misspelling("Aple", 26))));
+    }
+
+    @Test
+    void chunkBoundaryTest() throws IOException {
+        // 청크 크기를 작게 해서 단어가 청크 경계에 걸치도록 만든다.
+        Lexicon lexicon = TrieLexicon.of(List.of("사과", "바나나", "체리"), false);
+        StringBuilder document = new StringBuilder();
+        Random random = new Random(38);
+        String[] tokens = {"사과", "바나나", "체리", "포도"};
+        int expected = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String token = tokens[random.nextInt(tokens.length)];
+            if (token.equals("포도")) {
+                expected++;
+            }
+            document.append(token).append(i % 10 == 0 ? "\n" : " ");
+        }
+        // 청크 크기보다 긴 단어
+        document.append("가".repeat(100));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Misspelling> misspellings = new DocumentChecker(lexicon, pool, 16).check(new StringReader(document.toString()));
+
+            assertTrue(misspellings.size() == expected + 1);
+            for (Misspelling misspelling : misspellings) {
+                int offset = (int) misspelling.getOffset();
+                assertTrue(document.substring(offset, offset + misspelling.getWord().length()).equals(misspelling.getWord()));
+            }
+            for (int i = 1; i < misspellings.size(); i++) {
+                assertTrue(misspellings.get(i - 1).getOffset() < misspellings.get(i).getOffset());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ka.chapter2.item5.lexicon;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// 문서를 청크 단위로 읽어 fork-join 풀에서 병렬로 검사한다.
+// 청크는 단어 중간에서 끊기지 않도록 마지막 단어 경계에서 자르고, 나머지는 다음 청크로 넘긴다.
+final class DocumentChecker {
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final Lexicon dictionary;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxInFlight;
+
+    DocumentChecker(Lexicon dictionary, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.dictionary = dictionary;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = pool.getParallelism() * 4;
+    }
+
+    List<Misspelling> check(Reader reader) throws IOException {
+        List<Misspelling> result = new ArrayList<>();
+        // 읽기가 검사보다 너무 앞서 나가지 않도록 동시에 떠 있는 청크 수를 제한한다.
+        Deque<ForkJoinTask<List<Misspelling>>> inFlight = new ArrayDeque<>();
+
+        char[] buffer = new char[chunkSize];
+        int length = 0;
+        long base = 0;
+        boolean eof = false;
+        while (!eof) {
+            int read = reader.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                eof = true;
+            } else {
+                length += read;
+                if (length < buffer.length) {
+                    continue;
+                }
+            }
+
+            int cut = eof ? length : lastBoundary(buffer, length);
+            if (cut == 0) {
+                if (!eof) {
+                    // 청크 전체가 한 단어라면 버퍼를 늘려서 더 읽는다.
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                continue;
+            }
+
+            char[] chunk = Arrays.copyOf(buffer, cut);
+            long chunkBase = base;
+            inFlight.add(pool.submit(() -> checkChunk(chunk, chunkBase)));
+            if (inFlight.size() > maxInFlight) {
+                result.addAll(inFlight.poll().join());
+            }
+
+            System.arraycopy(buffer, cut, buffer, 0, length - cut);
+            length -= cut;
+            base += cut;
+        }
+
+        while (!inFlight.isEmpty()) {
+            result.addAll(inFlight.poll().join());
+        }
+        return result;
+    }
+
+    private List<Misspelling> checkChunk(char[] chunk, long base) {
+        List<Misspelling> misspellings = new ArrayList<>();
+        CharSlice token = new CharSlice(chunk);
+        int i = 0;
+        while (i < chunk.length) {
+            if (!isWordChar(chunk[i])) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < chunk.length && isWordChar(chunk[i])) {
+                i++;
+            }
+            if (!dictionary.isContainsWord(token.set(start, i))) {
+                misspellings.add(new Misspelling(token.toString(), base + start));
+            }
+        }
+        return misspellings;
+    }
+
+    // 마지막 단어 경계 바로 뒤의 위치. 경계가 없으면 0
+    private static int lastBoundary(char[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (!isWordChar(buffer[i])) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetter(c);
+    }
+}
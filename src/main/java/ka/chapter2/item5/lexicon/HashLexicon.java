@@ -0,0 +1,127 @@
+package ka.chapter2.item5.lexicon;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 오픈 어드레싱(선형 탐사) 해시 집합으로 단어를 저장한다.
+public class HashLexicon implements Lexicon, MemoryFootprint {
+    private static final int EMPTY = 0;
+
+    private final boolean ignoreCase;
+    private final String[] words;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private HashLexicon(Collection<String> source, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        int capacity = Integer.highestOneBit(Math.max(2, source.size() * 2 - 1)) << 1;
+        this.words = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+
+        int count = 0;
+        for (String word : source) {
+            String key = LexiconFiles.fold(word, ignoreCase);
+            if (insert(key)) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    public static HashLexicon of(Collection<String> words, boolean ignoreCase) {
+        return new HashLexicon(words, ignoreCase);
+    }
+
+    public static HashLexicon load(Path path, boolean ignoreCase) throws IOException {
+        return new HashLexicon(LexiconFiles.readWords(path), ignoreCase);
+    }
+
+    private boolean insert(String key) {
+        int hash = hash(key);
+        int slot = hash & mask;
+        while (hashes[slot] != EMPTY) {
+            if (hashes[slot] == hash && words[slot].equals(key)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        words[slot] = key;
+        return true;
+    }
+
+    @Override
+    public boolean isContainsWord(String word) {
+        return isContainsWord((CharSequence) word);
+    }
+
+    @Override
+    public boolean isContainsWord(CharSequence word) {
+        int hash = hash(word);
+        int slot = hash & mask;
+        while (hashes[slot] != EMPTY) {
+            if (hashes[slot] == hash && matches(words[slot], word)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public List<String> words() {
+        List<String> result = new ArrayList<>(size);
+        for (String word : words) {
+            if (word != null) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 테이블과 저장된 문자열(Latin-1 압축 문자열 기준)의 대략적인 크기
+    @Override
+    public long estimatedBytes() {
+        long bytes = (long) words.length * (Integer.BYTES + 4);
+        for (String word : words) {
+            if (word != null) {
+                bytes += 24 + 16 + word.length();
+            }
+        }
+        return bytes;
+    }
+
+    // 소문자 변환 문자열을 만들지 않고 문자 단위로 비교한다.
+    private boolean matches(String stored, CharSequence word) {
+        if (stored.length() != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (stored.charAt(i) != LexiconFiles.fold(word.charAt(i), ignoreCase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(CharSequence word) {
+        int h = 0;
+        for (int i = 0; i < word.length(); i++) {
+            h = 31 * h + LexiconFiles.fold(word.charAt(i), ignoreCase);
+        }
+        // 하위 비트로 슬롯을 고르므로 비트를 섞어준다. 0은 빈 슬롯 표시로 쓴다.
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h == EMPTY ? 1 : h;
+    }
+}
@@ -1,6 +1,7 @@
 package ka.chapter2.item5.lexicon;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class KoreanLexicon implements Lexicon {
@@ -17,4 +18,9 @@ public class KoreanLexicon implements Lexicon {
     public boolean isContainsWord(String word) {
         return words.contains(word);
     }
+
+    @Override
+    public List<String> words() {
+        return Collections.unmodifiableList(words);
+    }
 }
@@ -0,0 +1,119 @@
+package ka.chapter2.item5.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LargeLexiconTest {
+
+    @Test
+    void hashLexiconTest() {
+        Lexicon lexicon = HashLexicon.of(List.of("apple", "banana", "cherry"), true);
+        SpellChecker checker = new SpellChecker(lexicon);
+
+        assertTrue(checker.isValid("Apple"));
+        assertTrue(checker.isValid("BANANA"));
+        assertFalse(checker.isValid("grape"));
+        assertFalse(checker.isValid("appl"));
+    }
+
+    @Test
+    void trieLexiconTest() {
+        Lexicon lexicon = TrieLexicon.of(List.of("사과", "바나나", "체리", "사과나무"), false);
+        SpellChecker checker = new SpellChecker(lexicon);
+
+        assertTrue(checker.isValid("사과"));
+        assertTrue(checker.isValid("사과나무"));
+        assertFalse(checker.isValid("사과나"));
+        assertFalse(checker.isValid(""));
+
+        TrieLexicon english = TrieLexicon.of(List.of("apple", "app", "Banana"), true);
+        assertTrue(english.isContainsWord("APP"));
+        assertTrue(english.isContainsWord("banana"));
+        assertFalse(english.isContainsWord("ap"));
+    }
+
+    @Test
+    void loadFromFileTest() throws IOException {
+        Path file = Files.createTempFile("lexicon", ".txt");
+        try {
+            Files.write(file, List.of("# comment", "Apple", "", "  banana  ", "cherry"), StandardCharsets.UTF_8);
+
+            HashLexicon hashLexicon = HashLexicon.load(file, true);
+            TrieLexicon trieLexicon = TrieLexicon.load(file, true);
+
+            assertTrue(hashLexicon.size() == 3 && trieLexicon.size() == 3);
+            assertTrue(hashLexicon.isContainsWord("banana") && trieLexicon.isContainsWord("banana"));
+            assertFalse(hashLexicon.isContainsWord("# comment") || trieLexicon.isContainsWord("# comment"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void lexiconBenchmark() throws IOException {
+        int count = 1_000_000;
+        Random random = new Random(35);
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(randomWord(random));
+        }
+        Path file = Files.createTempFile("lexicon", ".txt");
+        try {
+            Files.write(file, words, StandardCharsets.UTF_8);
+
+            long startTime = System.nanoTime();
+            HashLexicon hashLexicon = HashLexicon.load(file, true);
+            System.out.println("HashLexicon load = " + (System.nanoTime() - startTime) / 1_000_000 + "ms"
+                    + ", bytes/word = " + hashLexicon.estimatedBytes() / hashLexicon.size());
+
+            startTime = System.nanoTime();
+            TrieLexicon trieLexicon = TrieLexicon.load(file, true);
+            System.out.println("TrieLexicon load = " + (System.nanoTime() - startTime) / 1_000_000 + "ms"
+                    + ", bytes/word = " + trieLexicon.estimatedBytes() / trieLexicon.size());
+
+            List<String> queries = new ArrayList<>(words.subList(0, 500_000));
+            for (int i = 0; i < 500_000; i++) {
+                queries.add(randomWord(random).toUpperCase());
+            }
+            lookupRate("HashLexicon", hashLexicon, queries);
+            lookupRate("TrieLexicon", trieLexicon, queries);
+
+            for (String word : words.subList(0, 1000)) {
+                assertTrue(hashLexicon.isContainsWord(word) && trieLexicon.isContainsWord(word));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void lookupRate(String name, Lexicon lexicon, List<String> queries) {
+        long startTime = System.nanoTime();
+        int found = 0;
+        for (String query : queries) {
+            if (lexicon.isContainsWord(query)) {
+                found++;
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        System.out.println(name + " lookup = " + (queries.size() * 1_000_000_000L / elapsed) + " ops/s, found = " + found);
+    }
+
+    private static String randomWord(Random random) {
+        int length = 3 + random.nextInt(10);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
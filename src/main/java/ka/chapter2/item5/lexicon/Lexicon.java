@@ -1,7 +1,22 @@
 package ka.chapter2.item5.lexicon;
 
+import java.util.List;
+
 public interface Lexicon {
 
     boolean isContainsWord(String word);
 
+    // 문서 검사처럼 토큰마다 String을 만들기 아까운 경우에 쓴다. 기본 구현은 String으로 바꿔서 조회한다.
+    default boolean isContainsWord(CharSequence word) {
+        return isContainsWord(word.toString());
+    }
+
+    List<String> words();
+
+    // 단어 목록이 바뀔 때마다 커지는 번호. 바뀌지 않는 사전은 0이다.
+    // 단어 목록으로 만든 인덱스나 필터를 들고 있는 쪽이 다시 만들 때가 되었는지 판단할 때 쓴다.
+    default long generation() {
+        return 0;
+    }
+
 }
@@ -0,0 +1,47 @@
+package ka.chapter2.item5.lexicon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+final class LexiconFiles {
+
+    private LexiconFiles() {
+        throw new AssertionError();
+    }
+
+    // 한 줄에 한 단어, 빈 줄과 '#'으로 시작하는 줄은 건너뛴다.
+    static List<String> readWords(Path path) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.strip();
+                if (!word.isEmpty() && word.charAt(0) != '#') {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    static char fold(char c, boolean ignoreCase) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    // 조회 시 fold와 같은 규칙으로 변환해야 저장된 단어와 비교가 어긋나지 않는다.
+    static String fold(String word, boolean ignoreCase) {
+        if (!ignoreCase) {
+            return word;
+        }
+        char[] chars = new char[word.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(word.charAt(i));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,7 @@
+package ka.chapter2.item5.lexicon;
+
+public interface MemoryFootprint {
+
+    long estimatedBytes();
+
+}
@@ -0,0 +1,42 @@
+package ka.chapter2.item5.lexicon;
+
+import java.util.Objects;
+
+public final class Misspelling {
+    private final String word;
+    private final long offset;
+
+    public Misspelling(String word, long offset) {
+        this.word = word;
+        this.offset = offset;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    // 문서 처음부터 센 문자(char) 위치
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Misspelling that)) return false;
+        return offset == that.offset && word.equals(that.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(word, offset);
+    }
+
+    @Override
+    public String toString() {
+        return "Misspelling{" +
+                "word='" + word + '\'' +
+                ", offset=" + offset +
+                '}';
+    }
+}
@@ -0,0 +1,111 @@
+package ka.chapter2.item5.lexicon;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 새 사전은 백그라운드에서 만들고, 다 만들어진 뒤 참조 하나만 바꿔 끼운다.
+// 조회는 현재 참조를 한 번 읽기만 하므로 교체 중에도 막히거나 만들다 만 사전을 보지 않는다.
+public class ReloadableLexicon implements Lexicon, MemoryFootprint {
+    private final AtomicReference<Generation> current;
+    private final Executor executor;
+
+    private final LongAdder reloadCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private volatile long lastReloadMillis;
+    private volatile long previousBytes = -1;
+
+    public ReloadableLexicon(Lexicon initial) {
+        this(initial, ForkJoinPool.commonPool());
+    }
+
+    public ReloadableLexicon(Lexicon initial, Executor executor) {
+        this.current = new AtomicReference<>(new Generation(Objects.requireNonNull(initial), 0));
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public boolean isContainsWord(String word) {
+        return current.get().lexicon.isContainsWord(word);
+    }
+
+    @Override
+    public boolean isContainsWord(CharSequence word) {
+        return current.get().lexicon.isContainsWord(word);
+    }
+
+    @Override
+    public List<String> words() {
+        return current.get().lexicon.words();
+    }
+
+    public CompletableFuture<Lexicon> reload(Supplier<? extends Lexicon> loader) {
+        Objects.requireNonNull(loader);
+        return CompletableFuture.supplyAsync(() -> {
+            long startTime = System.nanoTime();
+            Lexicon lexicon = Objects.requireNonNull(loader.get());
+            Generation previous = current.getAndUpdate(old -> new Generation(lexicon, old.number + 1));
+
+            lastReloadMillis = (System.nanoTime() - startTime) / 1_000_000;
+            previousBytes = bytesOf(previous.lexicon);
+            reloadCount.increment();
+            return lexicon;
+        }, executor).whenComplete((lexicon, e) -> {
+            if (e != null) {
+                failureCount.increment();
+            }
+        });
+    }
+
+    public Lexicon current() {
+        return current.get().lexicon;
+    }
+
+    // 교체될 때마다 1씩 증가한다.
+    @Override
+    public long generation() {
+        return current.get().number;
+    }
+
+    public long getReloadCount() {
+        return reloadCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getLastReloadMillis() {
+        return lastReloadMillis;
+    }
+
+    // 현재 세대의 크기. 알 수 없으면 -1
+    @Override
+    public long estimatedBytes() {
+        return bytesOf(current.get().lexicon);
+    }
+
+    // 직전에 교체된 세대의 크기. 알 수 없으면 -1
+    public long getPreviousBytes() {
+        return previousBytes;
+    }
+
+    private static long bytesOf(Lexicon lexicon) {
+        return lexicon instanceof MemoryFootprint footprint ? footprint.estimatedBytes() : -1;
+    }
+
+    private static final class Generation {
+        private final Lexicon lexicon;
+        private final long number;
+
+        private Generation(Lexicon lexicon, long number) {
+            this.lexicon = lexicon;
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ka.chapter2.item5.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReloadableLexiconTest {
+
+    @Test
+    void reloadTest() throws Exception {
+        ReloadableLexicon lexicon = new ReloadableLexicon(HashLexicon.of(List.of("apple", "banana"), true));
+        SpellChecker checker = new SpellChecker(lexicon);
+        assertTrue(checker.isValid("apple"));
+        assertFalse(checker.isValid("cherry"));
+        assertTrue(checker.suggest("chery", 2, 5).isEmpty());
+
+        // 새 사전을 만드는 동안에도 기존 사전으로 조회할 수 있다.
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Lexicon> reload = lexicon.reload(() -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return TrieLexicon.of(List.of("apple", "cherry"), true);
+        });
+        loading.await();
+        assertTrue(checker.isValid("banana"));
+        release.countDown();
+        reload.get();
+
+        // SpellChecker를 다시 만들지 않아도 새 사전이 적용된다.
+        assertTrue(checker.isValid("cherry"));
+        assertFalse(checker.isValid("banana"));
+        assertTrue(checker.suggest("chery", 2, 5).equals(List.of("cherry")));
+
+        assertTrue(lexicon.generation() == 1);
+        assertTrue(lexicon.getReloadCount() == 1);
+        assertTrue(lexicon.getLastReloadMillis() >= 0);
+        assertTrue(lexicon.getPreviousBytes() > 0 && lexicon.estimatedBytes() > 0);
+        System.out.println("reload = " + lexicon.getLastReloadMillis() + "ms, previous = "
+                + lexicon.getPreviousBytes() + " bytes, current = " + lexicon.estimatedBytes() + " bytes");
+    }
+
+    @Test
+    void suggestDuringRebuildTest() throws Exception {
+        // 제안 인덱스를 다시 만드는 작업은 테스트가 직접 실행할 때까지 미뤄 둔다.
+        List<Runnable> rebuilds = new ArrayList<>();
+        ReloadableLexicon lexicon = new ReloadableLexicon(HashLexicon.of(List.of("apple", "banana"), true));
+        SpellChecker checker = new SpellChecker(lexicon, rebuilds::add);
+        assertTrue(checker.suggest("chery", 2, 5).isEmpty());
+
+        lexicon.reload(() -> HashLexicon.of(List.of("apple", "cherry", "cheery"), true)).get();
+
+        // 새 인덱스가 없어도 기다리지 않고 새 단어 목록으로 제안한다.
+        assertTrue(checker.suggest("chery", 2, 5).equals(List.of("cheery", "cherry")));
+        assertTrue(checker.suggest("banan", 2, 5).isEmpty());
+        assertTrue(rebuilds.size() == 1);
+
+        rebuilds.remove(0).run();
+        assertTrue(checker.suggest("chery", 2, 5).equals(List.of("cheery", "cherry")));
+        assertTrue(rebuilds.isEmpty());
+    }
+
+    @Test
+    void failedReloadKeepsCurrentTest() {
+        ReloadableLexicon lexicon = new ReloadableLexicon(new EnglishLexicon());
+        CompletableFuture<Lexicon> reload = lexicon.reload(() -> {
+            throw new IllegalStateException("broken dictionary file");
+        });
+
+        assertThrows(ExecutionException.class, reload::get);
+        assertTrue(lexicon.isContainsWord("apple"));
+        assertTrue(lexicon.generation() == 0);
+        assertTrue(lexicon.getFailureCount() == 1);
+    }
+
+    @Test
+    void lookupDuringReloadTest() throws Exception {
+        ReloadableLexicon lexicon = new ReloadableLexicon(HashLexicon.of(List.of("apple"), false));
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder misses = new LongAdder();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                // 모든 세대에 "apple"이 있으므로 교체 중에도 항상 찾아야 한다.
+                if (!lexicon.isContainsWord("apple")) {
+                    misses.increment();
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 100; i++) {
+            int generation = i;
+            lexicon.reload(() -> HashLexicon.of(List.of("apple", "word" + generation), false)).get();
+        }
+        running.set(false);
+        reader.join();
+
+        assertTrue(misses.sum() == 0);
+        assertTrue(lexicon.generation() == 100);
+    }
+}
@@ -1,15 +1,113 @@
 package ka.chapter2.item5.lexicon;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SpellChecker {
+    private static final int DEFAULT_MAX_DISTANCE = 2;
+
     private final Lexicon dictionary;
+    private final Executor executor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile IndexHolder suggestionIndex;
 
     public SpellChecker(Lexicon dictionary) {
+        this(dictionary, ForkJoinPool.commonPool());
+    }
+
+    // executor는 사전이 바뀌었을 때 제안 인덱스를 다시 만드는 데 쓴다.
+    public SpellChecker(Lexicon dictionary, Executor executor) {
         this.dictionary = Objects.requireNonNull(dictionary);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public SpellChecker(Lexicon dictionary, SuggestionIndex suggestionIndex) {
+        this(dictionary);
+        this.suggestionIndex = new IndexHolder(Objects.requireNonNull(suggestionIndex), dictionary.generation());
     }
 
     public boolean isValid(String word) {
         return dictionary.isContainsWord(word);
     }
+
+    // 문서 전체를 검사해 사전에 없는 단어와 그 위치를 문서 순서대로 반환한다.
+    public List<Misspelling> check(Reader document) throws IOException {
+        return check(document, ForkJoinPool.commonPool());
+    }
+
+    public List<Misspelling> check(Reader document, ForkJoinPool pool) throws IOException {
+        return new DocumentChecker(dictionary, pool, DocumentChecker.DEFAULT_CHUNK_SIZE).check(document);
+    }
+
+    public List<Misspelling> check(Path document) throws IOException {
+        try (Reader reader = Files.newBufferedReader(document, StandardCharsets.UTF_8)) {
+            return check(reader);
+        }
+    }
+
+    public List<String> suggest(String word, int maxDistance, int limit) {
+        IndexHolder holder = suggestionIndex();
+        if (holder.generation != dictionary.generation()) {
+            // 새 인덱스를 만드는 동안에는 옛 인덱스 대신 사전의 단어 목록을 직접 훑는다.
+            rebuild(holder.index.getMaxDistance());
+            return holder.index.scan(dictionary.words(), word, maxDistance, limit);
+        }
+        return holder.index.suggest(word, maxDistance, limit);
+    }
+
+    // 인덱스 생성 비용이 크므로 처음 suggest를 호출할 때 만든다.
+    private IndexHolder suggestionIndex() {
+        IndexHolder holder = suggestionIndex;
+        if (holder == null) {
+            synchronized (this) {
+                holder = suggestionIndex;
+                if (holder == null) {
+                    long generation = dictionary.generation();
+                    holder = new IndexHolder(SuggestionIndex.build(dictionary.words(), DEFAULT_MAX_DISTANCE), generation);
+                    suggestionIndex = holder;
+                }
+            }
+        }
+        return holder;
+    }
+
+    // 사전의 generation이 바뀌면 새 단어 목록으로 인덱스를 executor에서 한 번만 다시 만들고,
+    // 다 만들어지면 참조만 바꿔 끼운다. suggest는 그동안 기다리지 않는다.
+    private void rebuild(int maxDistance) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    long generation = dictionary.generation();
+                    suggestionIndex = new IndexHolder(SuggestionIndex.build(dictionary.words(), maxDistance), generation);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 suggest에서 다시 시도한다. 그동안은 단어 목록을 직접 훑는다.
+            rebuilding.set(false);
+        }
+    }
+
+    private static final class IndexHolder {
+        private final SuggestionIndex index;
+        private final long generation;
+
+        private IndexHolder(SuggestionIndex index, long generation) {
+            this.index = index;
+            this.generation = generation;
+        }
+    }
 }
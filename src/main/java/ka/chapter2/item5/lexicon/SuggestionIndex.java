@@ -0,0 +1,263 @@
+package ka.chapter2.item5.lexicon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// SymSpell 방식의 삭제 인덱스.
+// 사전 단어에서 문자를 최대 maxDistance개 지운 문자열들을 미리 색인해 두고,
+// 입력 단어의 삭제 문자열과 만나는 단어만 편집 거리를 계산한다.
+public class SuggestionIndex {
+    private static final int ID_BITS = 24;
+    private static final int MAX_WORDS = 1 << ID_BITS;
+    private static final long ID_MASK = MAX_WORDS - 1;
+
+    private final String[] words;
+    private final int maxDistance;
+    private final int maxWordLength;
+    // 부호 비트를 뺀 상위 39비트는 삭제 문자열의 해시, 하위 24비트는 단어 번호. 정렬되어 있다.
+    private final long[] entries;
+    // 해시 상위 bucketBits 비트별 entries 시작 위치. 이진 탐색 대신 바로 구간을 찾는다.
+    private final int[] bucketStart;
+    private final int bucketShift;
+
+    private SuggestionIndex(List<String> source, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("maxDistance must not be negative: " + maxDistance);
+        }
+        if (source.size() > MAX_WORDS) {
+            throw new IllegalArgumentException("too many words: " + source.size());
+        }
+        this.words = source.toArray(new String[0]);
+        this.maxDistance = maxDistance;
+        this.maxWordLength = Arrays.stream(words).mapToInt(String::length).max().orElse(0);
+
+        // 단어별 삭제 해시를 병렬로 만들고, 한 배열에 모아 병렬 정렬한다.
+        long[][] perWord = new long[words.length][];
+        IntStream.range(0, words.length).parallel()
+                .forEach(id -> perWord[id] = deleteHashes(words[id], maxDistance));
+
+        int[] offsets = new int[words.length + 1];
+        for (int id = 0; id < words.length; id++) {
+            offsets[id + 1] = Math.addExact(offsets[id], perWord[id].length);
+        }
+        long[] entries = new long[offsets[words.length]];
+        IntStream.range(0, words.length).parallel().forEach(id -> {
+            long[] hashes = perWord[id];
+            for (int i = 0; i < hashes.length; i++) {
+                entries[offsets[id] + i] = (hashes[i] << ID_BITS) | id;
+            }
+        });
+        Arrays.parallelSort(entries);
+        this.entries = entries;
+
+        int bucketBits = Math.max(4, 32 - Integer.numberOfLeadingZeros(Math.max(1, entries.length)) - 1);
+        this.bucketShift = Long.SIZE - 1 - bucketBits;
+        this.bucketStart = new int[(1 << bucketBits) + 1];
+        for (long entry : entries) {
+            bucketStart[(int) (entry >>> bucketShift) + 1]++;
+        }
+        for (int b = 0; b < (1 << bucketBits); b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+    }
+
+    public static SuggestionIndex build(List<String> words, int maxDistance) {
+        return new SuggestionIndex(words, maxDistance);
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    // 편집 거리가 가까운 순, 같으면 사전 순으로 최대 limit개를 반환한다.
+    public List<String> suggest(String word, int maxDistance, int limit) {
+        checkDistance(maxDistance);
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = new int[16];
+        int count = 0;
+        for (long hash : deleteHashes(word, maxDistance)) {
+            long key = hash << ID_BITS;
+            int bucket = (int) (key >>> bucketShift);
+            for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+                if ((entries[i] & ~ID_MASK) != key) {
+                    continue;
+                }
+                if (count == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, count * 2);
+                }
+                candidates[count++] = (int) (entries[i] & ID_MASK);
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+
+        List<int[]> matches = new ArrayList<>();
+        int[][] rows = new int[3][maxWordLength + 1];
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && candidates[i] == candidates[i - 1]) {
+                continue;
+            }
+            int distance = distance(word, words[candidates[i]], maxDistance, rows);
+            if (distance <= maxDistance) {
+                matches.add(new int[]{distance, candidates[i]});
+            }
+        }
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0])
+                .thenComparing(match -> words[match[1]]));
+
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(words[matches.get(i)[1]]);
+        }
+        return result;
+    }
+
+    // 인덱스를 쓰지 않고 source를 처음부터 훑어 suggest와 같은 순서로 돌려준다.
+    // 사전이 바뀌어 새 인덱스를 만드는 동안 새 단어 목록으로 제안할 때 쓴다.
+    List<String> scan(List<String> source, String word, int maxDistance, int limit) {
+        checkDistance(maxDistance);
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            int distance = distance(word, source.get(i), maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new int[]{distance, i});
+            }
+        }
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0])
+                .thenComparing(match -> source.get(match[1])));
+
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(source.get(matches.get(i)[1]));
+        }
+        return result;
+    }
+
+    private void checkDistance(int maxDistance) {
+        if (maxDistance > this.maxDistance) {
+            throw new IllegalArgumentException("maxDistance(" + maxDistance
+                    + ") is larger than the index distance(" + this.maxDistance + ")");
+        }
+    }
+
+    // 지울 위치의 조합마다 남은 문자들의 해시를 구한다. 부분 문자열을 만들지 않는다.
+    private static long[] deleteHashes(String word, int maxDistance) {
+        int length = word.length();
+        int deletes = Math.min(maxDistance, length);
+        long combinations = 0;
+        long c = 1;
+        for (int k = 0; k <= deletes; k++) {
+            combinations += c;
+            c = c * (length - k) / (k + 1);
+        }
+        long[] hashes = new long[Math.toIntExact(combinations)];
+        int count = collectDeletes(word, new boolean[length], 0, deletes, hashes, 0);
+
+        // 같은 문자가 반복되면 서로 다른 위치를 지워도 결과가 같으므로 중복을 제거한다.
+        Arrays.sort(hashes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+        return unique == hashes.length ? hashes : Arrays.copyOf(hashes, unique);
+    }
+
+    private static int collectDeletes(String word, boolean[] skipped, int from, int remaining,
+                                      long[] hashes, int count) {
+        hashes[count++] = hash(word, skipped);
+        if (remaining == 0) {
+            return count;
+        }
+        for (int i = from; i < word.length(); i++) {
+            skipped[i] = true;
+            count = collectDeletes(word, skipped, i + 1, remaining - 1, hashes, count);
+            skipped[i] = false;
+        }
+        return count;
+    }
+
+    // 39비트 해시. 충돌하더라도 편집 거리 검증에서 걸러진다.
+    private static long hash(String word, boolean[] skipped) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            if (!skipped[i]) {
+                h = (h ^ word.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        h ^= h >>> 29;
+        return h >>> (ID_BITS + 1);
+    }
+
+    // 인접 문자 교환을 한 번의 편집으로 보는 제한된 Damerau-Levenshtein 거리.
+    // maxDistance를 넘으면 maxDistance + 1을 반환한다.
+    static int distance(String a, String b, int maxDistance) {
+        return distance(a, b, maxDistance, new int[3][b.length() + 1]);
+    }
+
+    private static int distance(String a, String b, int maxDistance, int[][] rows) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        // 공통 접두사/접미사는 거리에 영향을 주지 않으므로 잘라낸다.
+        int start = 0;
+        while (start < a.length() && start < b.length() && a.charAt(start) == b.charAt(start)) {
+            start++;
+        }
+        int aEnd = a.length();
+        int bEnd = b.length();
+        while (aEnd > start && bEnd > start && a.charAt(aEnd - 1) == b.charAt(bEnd - 1)) {
+            aEnd--;
+            bEnd--;
+        }
+        // 교환(transposition)이 잘린 경계에 걸칠 수 있으므로 한 글자씩 여유를 둔다.
+        start = Math.max(0, start - 1);
+        aEnd = Math.min(a.length(), aEnd + 1);
+        bEnd = Math.min(b.length(), bEnd + 1);
+        int n = aEnd - start;
+        int m = bEnd - start;
+        if (n == 0 || m == 0) {
+            return Math.min(Math.max(n, m), maxDistance + 1);
+        }
+
+        int[] prevPrev = rows[0];
+        int[] prev = rows[1];
+        int[] cur = rows[2];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            char ca = a.charAt(start + i - 1);
+            cur[0] = i;
+            int rowMin = cur[0];
+            for (int j = 1; j <= m; j++) {
+                char cb = b.charAt(start + j - 1);
+                int cost = ca == cb ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && ca == b.charAt(start + j - 2) && a.charAt(start + i - 2) == cb) {
+                    value = Math.min(value, prevPrev[j - 2] + 1);
+                }
+                cur[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] tmp = prevPrev;
+            prevPrev = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return Math.min(prev[m], maxDistance + 1);
+    }
+}
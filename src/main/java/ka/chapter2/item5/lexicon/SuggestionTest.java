@@ -0,0 +1,91 @@
+package ka.chapter2.item5.lexicon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SuggestionTest {
+
+    @Test
+    void suggestTest() {
+        SpellChecker checker = new SpellChecker(new EnglishLexicon());
+
+        assertTrue(checker.suggest("aple", 2, 5).equals(List.of("apple")));
+        assertTrue(checker.suggest("bnanaa", 2, 5).equals(List.of("banana")));
+        assertTrue(checker.suggest("grape", 2, 5).isEmpty());
+    }
+
+    @Test
+    void orderAndLimitTest() {
+        Lexicon lexicon = HashLexicon.of(List.of("cat", "cut", "cart", "act", "coat", "dog"), false);
+        SpellChecker checker = new SpellChecker(lexicon);
+
+        // 거리 0 -> 거리 1(사전 순) -> 거리 2 순서
+        assertTrue(checker.suggest("cat", 1, 10).equals(List.of("cat", "act", "cart", "coat", "cut")));
+        assertTrue(checker.suggest("cat", 2, 2).equals(List.of("cat", "act")));
+    }
+
+    @Test
+    void distanceTest() {
+        assertTrue(SuggestionIndex.distance("apple", "apple", 2) == 0);
+        assertTrue(SuggestionIndex.distance("apple", "aplpe", 2) == 1);
+        assertTrue(SuggestionIndex.distance("kitten", "sitting", 3) == 3);
+        assertTrue(SuggestionIndex.distance("kitten", "sitting", 2) == 3);
+    }
+
+    @Test
+    void suggestBenchmark() {
+        Random random = new Random(36);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            words.add(randomWord(random));
+        }
+
+        long startTime = System.nanoTime();
+        SuggestionIndex index = SuggestionIndex.build(words, 2);
+        System.out.println("build = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            char[] chars = words.get(random.nextInt(words.size())).toCharArray();
+            chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+            queries.add(new String(chars));
+        }
+
+        // JIT 워밍업 후 거리별로 측정한다.
+        measure(index, queries, 1);
+        measure(index, queries, 2);
+        for (int distance = 1; distance <= 2; distance++) {
+            int found = measure(index, queries, distance);
+            // 한 글자만 바꿨으므로 모두 후보가 있어야 한다.
+            assertTrue(found == queries.size());
+        }
+    }
+
+    private static int measure(SuggestionIndex index, List<String> queries, int maxDistance) {
+        long startTime = System.nanoTime();
+        int found = 0;
+        for (String query : queries) {
+            if (!index.suggest(query, maxDistance, 5).isEmpty()) {
+                found++;
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        System.out.println("suggest(maxDistance = " + maxDistance + ") = "
+                + elapsed / queries.size() / 1000.0 + "us/query");
+        return found;
+    }
+
+    private static String randomWord(Random random) {
+        int length = 5 + random.nextInt(8);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
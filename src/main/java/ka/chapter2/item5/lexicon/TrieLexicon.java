@@ -0,0 +1,146 @@
+package ka.chapter2.item5.lexicon;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+// 노드마다 객체를 만들지 않고 배열로 표현한 트라이.
+// 자식 노드는 BFS 순서로 연속해서 배치되므로 [childStart[n], childStart[n + 1]) 구간을 이진 탐색한다.
+public class TrieLexicon implements Lexicon, MemoryFootprint {
+    private final boolean ignoreCase;
+    private final char[] labels;
+    private final int[] childStart;
+    private final BitSet terminal;
+    private final int size;
+
+    private TrieLexicon(Collection<String> source, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        String[] sorted = source.stream()
+                .map(word -> LexiconFiles.fold(word, ignoreCase))
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+        this.size = sorted.length;
+
+        char[] labels = new char[Math.max(16, sorted.length)];
+        int[] childStart = new int[labels.length + 1];
+        BitSet terminal = new BitSet();
+        int nodeCount = 1;
+
+        // {node, depth, from, to}: node의 접두사를 공유하는 단어 구간
+        Deque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{0, 0, 0, sorted.length});
+        for (int node = 0; node < nodeCount; node++) {
+            int[] range = queue.poll();
+            int depth = range[1];
+            int from = range[2];
+            int to = range[3];
+            childStart[node] = nodeCount;
+
+            if (from < to && sorted[from].length() == depth) {
+                terminal.set(node);
+                from++;
+            }
+            while (from < to) {
+                char c = sorted[from].charAt(depth);
+                int end = from + 1;
+                while (end < to && sorted[end].charAt(depth) == c) {
+                    end++;
+                }
+                if (nodeCount == labels.length) {
+                    labels = Arrays.copyOf(labels, labels.length * 2);
+                    childStart = Arrays.copyOf(childStart, labels.length + 1);
+                }
+                labels[nodeCount] = c;
+                queue.add(new int[]{nodeCount, depth + 1, from, end});
+                nodeCount++;
+                from = end;
+            }
+        }
+        childStart[nodeCount] = nodeCount;
+
+        this.labels = Arrays.copyOf(labels, nodeCount);
+        this.childStart = Arrays.copyOf(childStart, nodeCount + 1);
+        this.terminal = terminal;
+    }
+
+    public static TrieLexicon of(Collection<String> words, boolean ignoreCase) {
+        return new TrieLexicon(words, ignoreCase);
+    }
+
+    public static TrieLexicon load(Path path, boolean ignoreCase) throws IOException {
+        return new TrieLexicon(LexiconFiles.readWords(path), ignoreCase);
+    }
+
+    @Override
+    public boolean isContainsWord(String word) {
+        return isContainsWord((CharSequence) word);
+    }
+
+    @Override
+    public boolean isContainsWord(CharSequence word) {
+        int node = 0;
+        for (int i = 0; i < word.length(); i++) {
+            node = child(node, LexiconFiles.fold(word.charAt(i), ignoreCase));
+            if (node < 0) {
+                return false;
+            }
+        }
+        return terminal.get(node);
+    }
+
+    private int child(int node, char c) {
+        int lo = childStart[node];
+        int hi = childStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < c) {
+                lo = mid + 1;
+            } else if (labels[mid] > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<String> words() {
+        List<String> result = new ArrayList<>(size);
+        collect(0, new StringBuilder(), result);
+        return result;
+    }
+
+    private void collect(int node, StringBuilder prefix, List<String> result) {
+        if (terminal.get(node)) {
+            result.add(prefix.toString());
+        }
+        for (int child = childStart[node]; child < childStart[node + 1]; child++) {
+            prefix.append(labels[child]);
+            collect(child, prefix, result);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return (long) labels.length * Character.BYTES
+                + (long) childStart.length * Integer.BYTES
+                + terminal.size() / Byte.SIZE;
+    }
+}
@@ -0,0 +1,64 @@
+package ka.chapter2.item6.roman;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 한 번 호출한 시간을 재면 클래스 로딩과 JIT 컴파일 시간이 대부분을 차지한다.
+// 충분히 워밍업한 뒤 여러 라운드를 반복해 호출당 평균 시간을 비교한다.
+public class RomanBenchmarkTest {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+    private static final int CALLS_PER_ROUND = 200_000;
+
+    private static final String[] INPUTS = inputs();
+
+    @Test
+    void romanNumeralBenchmark() {
+        double matches = measure("String.matches", RomanNumeral::isRomanNumeral);
+        double pattern = measure("Pattern", RomanNumeral::isRomanNumeralByPattern);
+        double stateMachine = measure("StateMachine", RomanNumeral::isRomanNumeralByStateMachine);
+
+        assertTrue(stateMachine < matches);
+        System.out.println("Pattern vs StateMachine = " + pattern / stateMachine + "x");
+    }
+
+    private static double measure(String name, Predicate<String> validator) {
+        int valid = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            valid += run(validator);
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startTime = System.nanoTime();
+            valid += run(validator);
+            best = Math.min(best, (double) (System.nanoTime() - startTime) / CALLS_PER_ROUND);
+        }
+        // 결과를 사용해야 JIT가 호출 자체를 없애지 않는다.
+        System.out.println(name + " = " + best + "ns/op (valid = " + valid + ")");
+        return best;
+    }
+
+    private static int run(Predicate<String> validator) {
+        int valid = 0;
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            if (validator.test(INPUTS[i & (INPUTS.length - 1)])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static String[] inputs() {
+        String[] inputs = new String[1024];
+        for (int i = 0; i < inputs.length; i++) {
+            String roman = RomanNumeral.fromInt(i + 1);
+            // 절반은 잘못된 입력
+            inputs[i] = i % 2 == 0 ? roman : roman + "IIII";
+        }
+        return inputs;
+    }
+}
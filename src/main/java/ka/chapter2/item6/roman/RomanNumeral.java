@@ -1,5 +1,6 @@
 package ka.chapter2.item6.roman;
 
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 public class RomanNumeral {
@@ -13,4 +14,99 @@ public class RomanNumeral {
     public static boolean isRomanNumeralByPattern(String s) {
         return ROMAN.matcher(s).matches();
     }
-}
\ No newline at end of file
+
+    // 정규식과 같은 규칙을 직접 구현한 상태 기계. 객체를 만들지 않는다.
+    // 자리(백, 십, 일)마다 {1, 5, 10}에 해당하는 문자
+    private static final char[][] PLACES = {{'C', 'D', 'M'}, {'X', 'L', 'C'}, {'I', 'V', 'X'}};
+    private static final int[] PLACE_VALUES = {100, 10, 1};
+    private static final int INVALID = -1;
+
+    private static final String[] DIGITS_ONES = {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+    private static final String[] DIGITS_TENS = {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    private static final String[] DIGITS_HUNDREDS = {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"};
+    private static final int CACHED_MAX = 3999;
+    private static final String[] CACHED = new String[CACHED_MAX + 1];
+
+    static {
+        for (int i = 1; i <= CACHED_MAX; i++) {
+            CACHED[i] = build(i);
+        }
+    }
+
+    public static boolean isRomanNumeralByStateMachine(CharSequence s) {
+        return parse(s, null, 0, s.length()) != INVALID;
+    }
+
+    public static boolean isRomanNumeral(char[] chars, int from, int to) {
+        Objects.checkFromToIndex(from, to, chars.length);
+        return parse(null, chars, from, to) != INVALID;
+    }
+
+    public static int toInt(CharSequence s) {
+        int value = parse(s, null, 0, s.length());
+        if (value == INVALID) {
+            throw new NumberFormatException("not a roman numeral: " + s);
+        }
+        return value;
+    }
+
+    public static String fromInt(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("roman numerals must be positive: " + value);
+        }
+        return value <= CACHED_MAX ? CACHED[value] : build(value);
+    }
+
+    private static String build(int value) {
+        return "M".repeat(value / 1000)
+                + DIGITS_HUNDREDS[value / 100 % 10]
+                + DIGITS_TENS[value / 10 % 10]
+                + DIGITS_ONES[value % 10];
+    }
+
+    // 유효하면 값을, 아니면 INVALID를 반환한다. chars가 있으면 chars를, 없으면 s를 읽는다.
+    private static int parse(CharSequence s, char[] chars, int from, int to) {
+        if (from >= to) {
+            return INVALID;
+        }
+        int i = from;
+        int value = 0;
+        while (i < to && at(s, chars, i) == 'M') {
+            if (value > Integer.MAX_VALUE - 1000) {
+                return INVALID;
+            }
+            value += 1000;
+            i++;
+        }
+
+        for (int place = 0; place < PLACES.length; place++) {
+            char one = PLACES[place][0];
+            char five = PLACES[place][1];
+            char ten = PLACES[place][2];
+            int digit = 0;
+
+            if (i + 1 < to && at(s, chars, i) == one && at(s, chars, i + 1) == ten) {
+                digit = 9;
+                i += 2;
+            } else if (i + 1 < to && at(s, chars, i) == one && at(s, chars, i + 1) == five) {
+                digit = 4;
+                i += 2;
+            } else {
+                if (i < to && at(s, chars, i) == five) {
+                    digit = 5;
+                    i++;
+                }
+                for (int count = 0; count < 3 && i < to && at(s, chars, i) == one; count++) {
+                    digit++;
+                    i++;
+                }
+            }
+            value += digit * PLACE_VALUES[place];
+        }
+        return i == to ? value : INVALID;
+    }
+
+    private static char at(CharSequence s, char[] chars, int index) {
+        return chars != null ? chars[index] : s.charAt(index);
+    }
+}
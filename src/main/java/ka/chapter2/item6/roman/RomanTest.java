@@ -1,30 +1,14 @@
 package ka.chapter2.item6.roman;
 
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RomanTest {
 
-    long startTime, endTime;
-
-    @BeforeEach
-    void startTimeCheck() {
-        startTime = System.nanoTime();
-    }
-
-    @AfterEach
-    void endTimeCheck() {
-        endTime = System.nanoTime();
-
-        long totalNanoTime = endTime - startTime;
-        double timeMillis = (double) totalNanoTime / 1000000.0;
-        System.out.println("timeMillis = " + timeMillis + "ms");
-    }
-
     @Test
     @Order(2)
     void romanTest1() {
@@ -40,4 +24,41 @@ public class RomanTest {
         boolean result = RomanNumeral.isRomanNumeralByPattern("IX");
         assertTrue(result);
     }
+
+    @Test
+    void stateMachineSameAsPatternTest() {
+        // 길이 6 이하의 모든 문자열에 대해 정규식과 같은 결과를 내야 한다.
+        char[] alphabet = {'M', 'D', 'C', 'L', 'X', 'V', 'I', 'A'};
+        char[] chars = new char[6];
+        for (int length = 0; length <= chars.length; length++) {
+            int total = (int) Math.pow(alphabet.length, length);
+            for (int n = 0; n < total; n++) {
+                int rest = n;
+                for (int i = 0; i < length; i++) {
+                    chars[i] = alphabet[rest % alphabet.length];
+                    rest /= alphabet.length;
+                }
+                String s = new String(chars, 0, length);
+                boolean expected = RomanNumeral.isRomanNumeralByPattern(s);
+                assertTrue(expected == RomanNumeral.isRomanNumeralByStateMachine(s), s);
+                assertTrue(expected == RomanNumeral.isRomanNumeral(chars, 0, length), s);
+            }
+        }
+    }
+
+    @Test
+    void conversionTest() {
+        for (int i = 1; i <= 5000; i++) {
+            String roman = RomanNumeral.fromInt(i);
+            assertTrue(RomanNumeral.isRomanNumeralByPattern(roman), roman);
+            assertTrue(RomanNumeral.toInt(roman) == i, roman);
+        }
+        assertTrue(RomanNumeral.fromInt(1994).equals("MCMXCIV"));
+        assertTrue(RomanNumeral.toInt("MMXXIII") == 2023);
+
+        char[] text = "year MCMXCIV.".toCharArray();
+        assertTrue(RomanNumeral.isRomanNumeral(text, 5, 12));
+        assertFalse(RomanNumeral.isRomanNumeral(text, 4, 12));
+        assertThrows(NumberFormatException.class, () -> RomanNumeral.toInt("IIII"));
+    }
 }
@@ -0,0 +1,171 @@
+package ka.chapter3.item14.order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class OrderBook {
+    private static final int BLOCK_SIZE = 512;
+
+    // 정렬된 long 블록들의 목록 (B+트리의 리프만 남긴 형태)
+    private long[][] blocks = new long[8][];
+    private int[] blockSizes = new int[8];
+    private int blockCount;
+    private int size;
+
+    public boolean add(Order order) {
+        long key = OrderKeys.pack(order);
+        if (blockCount == 0) {
+            insertBlock(0, new long[BLOCK_SIZE]);
+        }
+
+        int b = findBlock(key);
+        int pos = Arrays.binarySearch(blocks[b], 0, blockSizes[b], key);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+
+        if (blockSizes[b] == BLOCK_SIZE) {
+            splitBlock(b);
+            if (pos > BLOCK_SIZE / 2) {
+                pos -= BLOCK_SIZE / 2;
+                b++;
+            }
+        }
+
+        long[] block = blocks[b];
+        System.arraycopy(block, pos, block, pos + 1, blockSizes[b] - pos);
+        block[pos] = key;
+        blockSizes[b]++;
+        size++;
+        return true;
+    }
+
+    public boolean remove(Order order) {
+        if (blockCount == 0) {
+            return false;
+        }
+        long key = OrderKeys.pack(order);
+        int b = findBlock(key);
+        int pos = Arrays.binarySearch(blocks[b], 0, blockSizes[b], key);
+        if (pos < 0) {
+            return false;
+        }
+
+        long[] block = blocks[b];
+        System.arraycopy(block, pos + 1, block, pos, blockSizes[b] - pos - 1);
+        blockSizes[b]--;
+        size--;
+        if (blockSizes[b] == 0) {
+            removeBlock(b);
+        }
+        return true;
+    }
+
+    public boolean contains(Order order) {
+        if (blockCount == 0) {
+            return false;
+        }
+        long key = OrderKeys.pack(order);
+        int b = findBlock(key);
+        return Arrays.binarySearch(blocks[b], 0, blockSizes[b], key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // from 이상 to 미만의 주문을 오름차순으로 반환 (TreeSet.subSet과 동일)
+    public List<Order> range(Order from, Order to) {
+        long fromKey = OrderKeys.pack(from);
+        long toKey = OrderKeys.pack(to);
+        List<Order> result = new ArrayList<>();
+        if (blockCount == 0 || fromKey >= toKey) {
+            return result;
+        }
+
+        int b = findBlock(fromKey);
+        int pos = Arrays.binarySearch(blocks[b], 0, blockSizes[b], fromKey);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        for (; b < blockCount; b++, pos = 0) {
+            long[] block = blocks[b];
+            for (; pos < blockSizes[b]; pos++) {
+                if (block[pos] >= toKey) {
+                    return result;
+                }
+                result.add(OrderKeys.unpack(block[pos]));
+            }
+        }
+        return result;
+    }
+
+    // 가장 큰 k개의 주문을 내림차순으로 반환
+    public List<Order> topK(int k) {
+        List<Order> result = new ArrayList<>(Math.min(k, size));
+        for (int b = blockCount - 1; b >= 0 && result.size() < k; b--) {
+            long[] block = blocks[b];
+            for (int pos = blockSizes[b] - 1; pos >= 0 && result.size() < k; pos--) {
+                result.add(OrderKeys.unpack(block[pos]));
+            }
+        }
+        return result;
+    }
+
+    // 가장 작은 k개의 주문을 오름차순으로 반환
+    public List<Order> bottomK(int k) {
+        List<Order> result = new ArrayList<>(Math.min(k, size));
+        for (int b = 0; b < blockCount && result.size() < k; b++) {
+            long[] block = blocks[b];
+            for (int pos = 0; pos < blockSizes[b] && result.size() < k; pos++) {
+                result.add(OrderKeys.unpack(block[pos]));
+            }
+        }
+        return result;
+    }
+
+    // key가 들어갈 수 있는 블록: 첫 원소가 key 이하인 마지막 블록
+    private int findBlock(long key) {
+        int lo = 0;
+        int hi = blockCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (blocks[mid][0] <= key) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private void splitBlock(int b) {
+        long[] upper = new long[BLOCK_SIZE];
+        int half = BLOCK_SIZE / 2;
+        System.arraycopy(blocks[b], half, upper, 0, BLOCK_SIZE - half);
+        blockSizes[b] = half;
+        insertBlock(b + 1, upper);
+        blockSizes[b + 1] = BLOCK_SIZE - half;
+    }
+
+    private void insertBlock(int at, long[] block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount << 1);
+            blockSizes = Arrays.copyOf(blockSizes, blockCount << 1);
+        }
+        System.arraycopy(blocks, at, blocks, at + 1, blockCount - at);
+        System.arraycopy(blockSizes, at, blockSizes, at + 1, blockCount - at);
+        blocks[at] = block;
+        blockSizes[at] = 0;
+        blockCount++;
+    }
+
+    private void removeBlock(int at) {
+        System.arraycopy(blocks, at + 1, blocks, at, blockCount - at - 1);
+        System.arraycopy(blockSizes, at + 1, blockSizes, at, blockCount - at - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+}
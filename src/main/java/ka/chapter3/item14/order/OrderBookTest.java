@@ -0,0 +1,87 @@
+package ka.chapter3.item14.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderBookTest {
+
+    @Test
+    void packedKeyOrderTest() {
+        // long 키의 대소가 compareTo의 결과와 같아야 한다.
+        int[] values = {Integer.MIN_VALUE, -15000, -1, 0, 1, 15000, Integer.MAX_VALUE};
+        for (int n1 : values) {
+            for (int f1 : values) {
+                for (int n2 : values) {
+                    for (int f2 : values) {
+                        Order o1 = new Order(n1, f1);
+                        Order o2 = new Order(n2, f2);
+                        int expected = Integer.signum(o1.compareTo(o2));
+                        int actual = Long.signum(Long.compare(OrderKeys.pack(o1), OrderKeys.pack(o2)));
+                        assertTrue(expected == actual);
+                    }
+                }
+            }
+        }
+        assertTrue(OrderKeys.unpack(OrderKeys.pack(-3, -15000)).equals(new Order(-3, -15000)));
+    }
+
+    @Test
+    void sameAsTreeSetTest() {
+        Random random = new Random(14);
+        TreeSet<Order> treeSet = new TreeSet<>();
+        OrderBook orderBook = new OrderBook();
+
+        for (int i = 0; i < 50000; i++) {
+            Order order = new Order(random.nextInt(2000) - 1000, random.nextInt(100) * 100);
+            if (random.nextInt(4) == 0) {
+                assertTrue(treeSet.remove(order) == orderBook.remove(order));
+            } else {
+                assertTrue(treeSet.add(order) == orderBook.add(order));
+            }
+        }
+
+        assertTrue(treeSet.size() == orderBook.size());
+        assertTrue(new ArrayList<>(treeSet).equals(orderBook.bottomK(treeSet.size())));
+
+        Order from = new Order(-100, 5000);
+        Order to = new Order(300, 0);
+        assertTrue(new ArrayList<>(treeSet.subSet(from, to)).equals(orderBook.range(from, to)));
+
+        List<Order> top = new ArrayList<>(treeSet.descendingSet()).subList(0, 10);
+        assertTrue(top.equals(orderBook.topK(10)));
+    }
+
+    @Test
+    void orderBookBenchmark() {
+        int count = 1_000_000;
+        Random random = new Random(28);
+        Order[] orders = new Order[count];
+        for (int i = 0; i < count; i++) {
+            orders[i] = new Order(random.nextInt(), random.nextInt(100_000));
+        }
+
+        long startTime = System.nanoTime();
+        TreeSet<Order> treeSet = new TreeSet<>();
+        for (Order order : orders) {
+            treeSet.add(order);
+        }
+        List<Order> treeTop = new ArrayList<>(treeSet.descendingSet()).subList(0, 100);
+        System.out.println("TreeSet<Order> = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        startTime = System.nanoTime();
+        OrderBook orderBook = new OrderBook();
+        for (Order order : orders) {
+            orderBook.add(order);
+        }
+        List<Order> bookTop = orderBook.topK(100);
+        System.out.println("OrderBook = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        assertTrue(treeTop.equals(bookTop));
+    }
+}
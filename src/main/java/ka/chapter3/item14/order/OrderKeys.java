@@ -0,0 +1,29 @@
+package ka.chapter3.item14.order;
+
+// (num, fee)를 하나의 long으로 묶어, long 비교 결과가 Order.compareTo와 같도록 만든다.
+final class OrderKeys {
+
+    private OrderKeys() {
+    }
+
+    static long pack(int num, int fee) {
+        // fee는 하위 32비트에 들어가므로 부호 비트를 뒤집어 unsigned 순서를 signed 순서와 맞춘다.
+        return ((long) num << 32) | ((fee ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    static long pack(Order order) {
+        return pack(order.num, order.fee);
+    }
+
+    static int num(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int fee(long key) {
+        return (int) key ^ Integer.MIN_VALUE;
+    }
+
+    static Order unpack(long key) {
+        return new Order(num(key), fee(key));
+    }
+}
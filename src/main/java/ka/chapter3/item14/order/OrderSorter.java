@@ -0,0 +1,122 @@
+package ka.chapter3.item14.order;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Order를 정렬 키(long)와 원래 위치(int) 두 개의 컬럼으로 풀어서 병렬 LSD 기수 정렬한다.
+public final class OrderSorter {
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int MASK = BUCKETS - 1;
+    private static final int PASSES = Long.SIZE / RADIX_BITS;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    private OrderSorter() {
+    }
+
+    public static void sort(Order[] orders) {
+        int n = orders.length;
+        if (n < 2) {
+            return;
+        }
+        int chunks = chunkCount(n);
+        boolean parallel = chunks > 1;
+
+        long[] keys = new long[n];
+        int[] indexes = new int[n];
+        range(n, parallel).forEach(i -> {
+            // 부호 비트를 뒤집어 unsigned 기수 정렬 순서를 signed long 순서와 맞춘다.
+            keys[i] = OrderKeys.pack(orders[i]) ^ Long.MIN_VALUE;
+            indexes[i] = i;
+        });
+
+        long[] keyBuffer = new long[n];
+        int[] indexBuffer = new int[n];
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] offsets = new int[chunks][BUCKETS];
+
+        long[] srcKeys = keys, dstKeys = keyBuffer;
+        int[] srcIndexes = indexes, dstIndexes = indexBuffer;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            long[] from = srcKeys;
+
+            range(chunks, parallel).forEach(c -> {
+                int[] count = offsets[c];
+                Arrays.fill(count, 0);
+                int end = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    count[(int) (from[i] >>> shift) & MASK]++;
+                }
+            });
+
+            if (!toOffsets(offsets, n)) {
+                // 모든 키가 이 자리에서 같은 값이면 자리 이동이 없으므로 건너뛴다.
+                continue;
+            }
+
+            long[] toKeys = dstKeys;
+            int[] fromIndexes = srcIndexes, toIndexes = dstIndexes;
+            range(chunks, parallel).forEach(c -> {
+                int[] offset = offsets[c];
+                int end = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    int pos = offset[(int) (from[i] >>> shift) & MASK]++;
+                    toKeys[pos] = from[i];
+                    toIndexes[pos] = fromIndexes[i];
+                }
+            });
+
+            srcKeys = dstKeys;
+            dstKeys = from;
+            srcIndexes = dstIndexes;
+            dstIndexes = fromIndexes;
+        }
+
+        Order[] sorted = new Order[n];
+        int[] sortedIndexes = srcIndexes;
+        range(n, parallel).forEach(i -> sorted[i] = orders[sortedIndexes[i]]);
+        System.arraycopy(sorted, 0, orders, 0, n);
+    }
+
+    public static void sort(List<Order> orders) {
+        Order[] array = orders.toArray(new Order[0]);
+        sort(array);
+        ListIterator<Order> iterator = orders.listIterator();
+        for (Order order : array) {
+            iterator.next();
+            iterator.set(order);
+        }
+    }
+
+    // 청크별 히스토그램을 (버킷, 청크) 순서의 시작 위치로 바꾼다. 한 버킷에 전부 몰려 있으면 false
+    private static boolean toOffsets(int[][] offsets, int n) {
+        int running = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int bucketTotal = 0;
+            for (int[] offset : offsets) {
+                int count = offset[bucket];
+                offset[bucket] = running;
+                running += count;
+                bucketTotal += count;
+            }
+            if (bucketTotal == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunkCount(int n) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(parallelism * 4, n / MIN_CHUNK_SIZE));
+    }
+
+    private static IntStream range(int n, boolean parallel) {
+        IntStream stream = IntStream.range(0, n);
+        return parallel ? stream.parallel() : stream;
+    }
+}
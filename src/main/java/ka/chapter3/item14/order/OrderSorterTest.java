@@ -0,0 +1,67 @@
+package ka.chapter3.item14.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderSorterTest {
+
+    @Test
+    void sameAsCompareToTest() {
+        Random random = new Random(29);
+        Order[] orders = new Order[100_000];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = new Order(random.nextInt(1000) - 500, random.nextInt());
+        }
+        Order[] expected = orders.clone();
+        Arrays.sort(expected);
+
+        OrderSorter.sort(orders);
+        assertTrue(Arrays.equals(expected, orders));
+    }
+
+    @Test
+    void listSortTest() {
+        List<Order> orders = new LinkedList<>();
+        orders.add(new Order(2, 30000));
+        orders.add(new Order(1, 15000));
+        orders.add(new Order(1, -15000));
+        orders.add(new Order(-1, 0));
+
+        OrderSorter.sort(orders);
+
+        List<Order> expected = new ArrayList<>(orders);
+        Collections.sort(expected);
+        assertTrue(expected.equals(orders));
+        System.out.println(orders);
+    }
+
+    @Test
+    void parallelSortBenchmark() {
+        int count = 5_000_000;
+        Random random = new Random(14);
+        Order[] orders = new Order[count];
+        for (int i = 0; i < count; i++) {
+            orders[i] = new Order(random.nextInt(), random.nextInt(100_000));
+        }
+
+        Order[] byComparator = orders.clone();
+        long startTime = System.nanoTime();
+        Arrays.parallelSort(byComparator);
+        System.out.println("Arrays.parallelSort = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        Order[] byRadix = orders.clone();
+        startTime = System.nanoTime();
+        OrderSorter.sort(byRadix);
+        System.out.println("OrderSorter.sort = " + (System.nanoTime() - startTime) / 1_000_000 + "ms");
+
+        assertTrue(Arrays.equals(byComparator, byRadix));
+    }
+}
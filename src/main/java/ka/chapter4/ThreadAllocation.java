@@ -0,0 +1,38 @@
+package ka.chapter4;
+
+import org.junit.jupiter.api.Assumptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// 벤치마크 테스트에서 현재 스레드가 할당한 바이트 수를 잴 때 쓴다.
+// com.sun.management.ThreadMXBean이 없거나 할당량 측정이 꺼진 JVM에서는 잴 수 없으므로,
+// 할당량을 비교하기 전에 assumeSupported로 그 검증만 건너뛴다.
+public final class ThreadAllocation {
+    private static final com.sun.management.ThreadMXBean BEAN = bean();
+
+    private ThreadAllocation() {
+    }
+
+    public static boolean isSupported() {
+        return BEAN != null;
+    }
+
+    public static void assumeSupported() {
+        Assumptions.assumeTrue(isSupported(), "thread allocation counter is not available on this JVM");
+    }
+
+    // 잴 수 없으면 0. 이 값으로 검증하기 전에 assumeSupported를 부른다.
+    public static long allocatedBytes() {
+        return BEAN == null ? 0 : BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean bean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+            return sunBean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package ka.chapter4.item15.search;
+
+final class ArrayGrid implements Grid {
+    private final int[][] map;
+    private final int H, W;
+
+    ArrayGrid(int[][] map) {
+        if (map.length == 0) {
+            throw new IllegalArgumentException("map is empty");
+        }
+        this.map = map;
+        this.H = map.length;
+        this.W = map[0].length;
+        for (int[] row : map) {
+            if (row.length != W) {
+                throw new IllegalArgumentException("map must be rectangular");
+            }
+        }
+        if ((long) H * W > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("map is too large: " + H + "x" + W);
+        }
+    }
+
+    @Override
+    public int getHeight() {
+        return H;
+    }
+
+    @Override
+    public int getWidth() {
+        return W;
+    }
+
+    @Override
+    public boolean isOpen(int y, int x) {
+        return map[y][x] == 1;
+    }
+}
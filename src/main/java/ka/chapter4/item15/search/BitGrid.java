@@ -0,0 +1,147 @@
+package ka.chapter4.item15.search;
+
+import java.util.Arrays;
+
+// 칸 하나를 비트 하나로 저장하는 격자. 칸 번호 y * W + x 순서로 long[] 하나에 이어 붙인다.
+// int[][] map(칸당 4바이트 + 행마다 배열 헤더)보다 32배, boolean[][] visited보다 8배 작다.
+// 지도와 방문 집합 모두 이 클래스로 표현한다.
+public class BitGrid implements Grid {
+    private final int H, W;
+    private final long[] words;
+
+    public BitGrid(int height, int width) {
+        if (height < 1 || width < 1) {
+            throw new IllegalArgumentException("grid must not be empty: " + height + "x" + width);
+        }
+        if ((long) height * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("grid is too large: " + height + "x" + width);
+        }
+        this.H = height;
+        this.W = width;
+        this.words = new long[(int) (((long) height * width + 63) >>> 6)];
+    }
+
+    public static BitGrid of(int[][] map) {
+        BitGrid grid = new BitGrid(map.length, map.length == 0 ? 0 : map[0].length);
+        for (int y = 0; y < grid.H; y++) {
+            if (map[y].length != grid.W) {
+                throw new IllegalArgumentException("map must be rectangular");
+            }
+            for (int x = 0; x < grid.W; x++) {
+                if (map[y][x] == 1) {
+                    grid.set(y * grid.W + x);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public int getHeight() {
+        return H;
+    }
+
+    @Override
+    public int getWidth() {
+        return W;
+    }
+
+    @Override
+    public boolean isOpen(int y, int x) {
+        return get(index(y, x));
+    }
+
+    public void setOpen(int y, int x, boolean open) {
+        int index = index(y, x);
+        if (open) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    public int index(int y, int x) {
+        if (y < 0 || y >= H || x < 0 || x >= W) {
+            throw new IndexOutOfBoundsException("(" + y + ", " + x + ") is out of " + H + "x" + W);
+        }
+        return y * W + x;
+    }
+
+    // 칸 번호로 바로 읽고 쓰는 메서드는 범위 검사를 하지 않는다. 탐색 엔진의 안쪽 반복문용
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    // 비어 있던 칸이면 채우고 true. 방문 집합에서 검사와 표시를 한 번에 한다.
+    public boolean add(int index) {
+        long bit = 1L << index;
+        long word = words[index >>> 6];
+        if ((word & bit) != 0) {
+            return false;
+        }
+        words[index >>> 6] = word | bit;
+        return true;
+    }
+
+    // 열린 칸 가운데 아직 visited에 없는 칸이면 visited에 넣고 true
+    public boolean visit(int index, BitGrid visited) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((words[word] & ~visited.words[word] & bit) == 0) {
+            return false;
+        }
+        visited.words[word] |= bit;
+        return true;
+    }
+
+    // (y, x)의 이웃 가운데 열린 방향을 비트로 모은다. i번 비트가 Directions의 i번 방향이다.
+    public int openNeighbors(int y, int x, int maxDir) {
+        int mask = 0;
+        for (int i = 0; i < maxDir; i++) {
+            int ny = y + Directions.DY[i];
+            int nx = x + Directions.DX[i];
+            if (ny >= 0 && ny < H && nx >= 0 && nx < W && get(ny * W + nx)) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    public BitGrid copy() {
+        BitGrid copy = new BitGrid(H, W);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    public long estimatedBytes() {
+        return 16L + 8L * words.length;
+    }
+
+    // 같은 크기의 int[][] map과 boolean[][] visited가 차지하는 바이트 수 추정치
+    public static long arrayGridBytes(int height, int width) {
+        long intRows = 16L + 8L * ((4L * width + 7) / 8);
+        long booleanRows = 16L + 8L * ((width + 7) / 8);
+        long outer = 16L + 4L * height;
+        return 2 * outer + height * (intRows + booleanRows);
+    }
+}
@@ -0,0 +1,125 @@
+package ka.chapter4.item15.search;
+
+// BitGrid 지도 위에서 도달 가능 여부만 구하는 BFS/DFS.
+// 지도와 방문 집합이 모두 칸당 1비트라 int[][] map + boolean[][] visited(칸당 5바이트)보다 20배 작다.
+// BreadthFirstSearch, DepthFirstSearch처럼 방문 집합은 탐색을 거듭해도 누적되고, clearVisited로만 지운다.
+public class BitGridSearch {
+    private final BitGrid map;
+    private final BitGrid visited;
+    private final int maxDir;
+    private final int H, W;
+    private final int[] offsets;
+    private int[] buffer;
+
+    public BitGridSearch(BitGrid map, int maxDir) {
+        this.map = map;
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.H = map.getHeight();
+        this.W = map.getWidth();
+        this.visited = new BitGrid(H, W);
+        this.offsets = Directions.offsets(W, maxDir);
+        this.buffer = new int[64];
+    }
+
+    // 반환값은 이번 탐색에서 새로 방문한 칸 수
+    public int bfs(int y, int x) {
+        int start = map.index(y, x);
+        if (!visited.add(start)) {
+            return 0;
+        }
+
+        int[] queue = buffer;
+        int mask = queue.length - 1;
+        int head = 0;
+        int size = 0;
+        queue[size++] = start;
+        int count = 1;
+        while (size > 0) {
+            int cur = queue[head];
+            head = (head + 1) & mask;
+            size--;
+
+            int cy = cur / W;
+            int cx = cur - cy * W;
+            for (int i = 0; i < maxDir; i++) {
+                int nx = cx + Directions.DX[i];
+                int ny = cy + Directions.DY[i];
+
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                    int n = cur + offsets[i];
+                    if (map.visit(n, visited)) {
+                        if (size == queue.length) {
+                            queue = grow(queue, head, size);
+                            mask = queue.length - 1;
+                            head = 0;
+                        }
+                        queue[(head + size++) & mask] = n;
+                        count++;
+                    }
+                }
+            }
+        }
+        buffer = queue;
+        return count;
+    }
+
+    // 스택에 넣을 때 방문 처리하는 DFS
+    public int dfs(int y, int x) {
+        int start = map.index(y, x);
+        if (!visited.add(start)) {
+            return 0;
+        }
+
+        int[] stack = buffer;
+        int top = 0;
+        stack[top++] = start;
+        int count = 1;
+        while (top > 0) {
+            int cur = stack[--top];
+
+            int cy = cur / W;
+            int cx = cur - cy * W;
+            for (int i = 0; i < maxDir; i++) {
+                int nx = cx + Directions.DX[i];
+                int ny = cy + Directions.DY[i];
+
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                    int n = cur + offsets[i];
+                    if (map.visit(n, visited)) {
+                        if (top == stack.length) {
+                            stack = grow(stack, 0, top);
+                        }
+                        stack[top++] = n;
+                        count++;
+                    }
+                }
+            }
+        }
+        buffer = stack;
+        return count;
+    }
+
+    public boolean isVisited(int y, int x) {
+        return visited.isOpen(y, x);
+    }
+
+    public BitGrid getVisited() {
+        return visited;
+    }
+
+    public void clearVisited() {
+        visited.clearAll();
+    }
+
+    public long estimatedBytes() {
+        return map.estimatedBytes() + visited.estimatedBytes() + 16L + 4L * buffer.length;
+    }
+
+    private static int[] grow(int[] queue, int head, int size) {
+        int[] grown = new int[queue.length << 1];
+        int first = Math.min(size, queue.length - head);
+        System.arraycopy(queue, head, grown, 0, first);
+        System.arraycopy(queue, 0, grown, first, size - first);
+        return grown;
+    }
+}
@@ -0,0 +1,104 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BitGridTest {
+    @Test
+    @DisplayName("int[][] 지도와 같은 칸이 열려 있다")
+    void sameAsArrayMap() {
+        int[][] map = GridBfsTest.randomMap(new Random(43), 37, 71, 0.5);
+        BitGrid grid = BitGrid.of(map);
+        int open = 0;
+        for (int y = 0; y < 37; y++) {
+            for (int x = 0; x < 71; x++) {
+                assertThat(grid.isOpen(y, x)).isEqualTo(map[y][x] == 1);
+                open += map[y][x];
+            }
+        }
+        assertThat(grid.cardinality()).isEqualTo(open);
+
+        grid.setOpen(36, 70, false);
+        assertThat(grid.isOpen(36, 70)).isFalse();
+        grid.setOpen(36, 70, true);
+        assertThat(grid.isOpen(36, 70)).isTrue();
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.isOpen(37, 0));
+    }
+
+    @Test
+    @DisplayName("열린 이웃 방향 비트")
+    void openNeighbors() {
+        int[][] map = {
+                {1, 1, 0},
+                {0, 1, 1},
+                {1, 0, 0}
+        };
+        BitGrid grid = BitGrid.of(map);
+        // 방향 순서: 오른쪽, 위, 왼쪽, 아래, 왼쪽 위, 오른쪽 위, 왼쪽 아래, 오른쪽 아래
+        assertThat(grid.openNeighbors(1, 1, 4)).isEqualTo(0b0000_0011);
+        assertThat(grid.openNeighbors(1, 1, 8)).isEqualTo(0b0101_0011);
+        assertThat(grid.openNeighbors(2, 0, 4)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("BFS와 DFS가 GridBfs와 같은 칸을 방문한다")
+    void searchSameAsGridBfs() {
+        Random random = new Random(43);
+        for (int maxDir : new int[]{4, 8}) {
+            for (int round = 0; round < 10; round++) {
+                int[][] map = GridBfsTest.randomMap(random, 50, 50, 0.6);
+                map[0][0] = 1;
+                GridBfs expected = new GridBfs(map, maxDir);
+                int count = expected.search(0, 0);
+
+                BitGridSearch search = new BitGridSearch(BitGrid.of(map), maxDir);
+                assertThat(search.bfs(0, 0)).isEqualTo(count);
+                assertThat(search.bfs(0, 0)).isEqualTo(0);
+                BitGrid bfsVisited = search.getVisited().copy();
+
+                search.clearVisited();
+                assertThat(search.dfs(0, 0)).isEqualTo(count);
+                for (int y = 0; y < 50; y++) {
+                    for (int x = 0; x < 50; x++) {
+                        assertThat(bfsVisited.isOpen(y, x)).isEqualTo(expected.isVisited(y, x));
+                        assertThat(search.isVisited(y, x)).isEqualTo(expected.isVisited(y, x));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("방문 집합은 탐색을 거듭해도 누적된다")
+    void visitedAccumulates() {
+        int[][] map = {
+                {1, 0, 1, 1}
+        };
+        BitGridSearch search = new BitGridSearch(BitGrid.of(map), 4);
+        assertThat(search.bfs(0, 0)).isEqualTo(1);
+        assertThat(search.dfs(0, 3)).isEqualTo(2);
+        assertThat(search.getVisited().cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("메모리 사용량")
+    void memory() {
+        int size = 10_000;
+        long bits = new BitGrid(size, size).estimatedBytes() * 2;
+        long arrays = BitGrid.arrayGridBytes(size, size);
+        System.out.println("int[][] + boolean[][] = " + arrays / (1 << 20) + "MB, BitGrid x2 = " + bits / (1 << 20) + "MB");
+        assertThat(arrays / bits).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BitGrid(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new BitGrid(1 << 16, 1 << 16));
+        assertThrows(IllegalArgumentException.class, () -> BitGrid.of(new int[][]{{1, 1}, {1}}));
+    }
+}
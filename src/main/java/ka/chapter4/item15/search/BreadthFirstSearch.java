@@ -19,6 +19,18 @@ public class BreadthFirstSearch {
         this.maxDir = maxDir;
     }
 
+    public BreadthFirstSearch(int[][] map, int maxDir) {
+        this.H = map.length;
+        this.W = map[0].length;
+        this.map = map;
+        this.visited = new boolean[H][W];
+        this.maxDir = maxDir;
+    }
+
+    public boolean isVisited(int y, int x) {
+        return visited[y][x];
+    }
+
     public void queueBfs(int y, int x) {
         Queue<Node> queue = new LinkedList<>();
         queue.offer(new Node(x, y));
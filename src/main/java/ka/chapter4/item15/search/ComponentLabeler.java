@@ -0,0 +1,303 @@
+package ka.chapter4.item15.search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// 지도를 타일로 나눠 병렬로 연결 요소에 번호를 붙인다.
+// 1. 타일마다 행 순서로 훑으며 타일 안의 이웃끼리 합친다. 타일끼리는 칸이 겹치지 않아 잠금이 필요 없다.
+// 2. 타일 경계(위쪽 행, 왼쪽 열)의 이웃끼리 CAS 기반 union-find로 합친다.
+// 3. 루트마다 행 우선 순서로 1부터 번호를 매기고, 모든 칸에 루트의 번호를 적는다.
+// 루트는 항상 더 작은 칸 번호 쪽으로 연결하므로 루트는 그 요소에서 가장 앞선 칸이 되고, 결과 번호가 실행마다 같다.
+// union-find의 parent 배열을 그대로 결과 번호 배열로 바꿔 쓰므로 칸당 int 하나만 쓴다.
+public class ComponentLabeler {
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int BLOCKED = Integer.MIN_VALUE;
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Grid grid;
+    private final int maxDir;
+    private final int tileSize;
+    private final int H, W;
+    private final int tileRows, tileCols;
+
+    public ComponentLabeler(Grid grid, int maxDir) {
+        this(grid, maxDir, DEFAULT_TILE_SIZE);
+    }
+
+    public ComponentLabeler(Grid grid, int maxDir, int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("tileSize must be positive: " + tileSize);
+        }
+        this.grid = grid;
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.tileSize = tileSize;
+        this.H = grid.getHeight();
+        this.W = grid.getWidth();
+        this.tileRows = (H + tileSize - 1) / tileSize;
+        this.tileCols = (W + tileSize - 1) / tileSize;
+    }
+
+    public ComponentLabels label() {
+        return label(ForkJoinPool.commonPool());
+    }
+
+    public ComponentLabels label(ForkJoinPool pool) {
+        int[] parent = new int[H * W];
+
+        forEach(pool, tileRows * tileCols, tile -> labelTile(parent, tile));
+        forEach(pool, tileRows * tileCols, tile -> mergeBorders(parent, tile));
+
+        // 여기부터는 타일 행 단위 띠로 나눈다. 띠 하나가 칸 번호의 연속 구간이라 누적 합으로 번호를 나눌 수 있다.
+        int[] rootCounts = new int[tileRows];
+        forEach(pool, tileRows, band -> rootCounts[band] = flatten(parent, band));
+        int[] firstLabels = new int[tileRows];
+        int count = 0;
+        for (int band = 0; band < tileRows; band++) {
+            firstLabels[band] = count + 1;
+            count += rootCounts[band];
+        }
+        forEach(pool, tileRows, band -> numberRoots(parent, band, firstLabels[band]));
+        forEach(pool, tileRows, band -> copyRootLabels(parent, band));
+        int[] sizes = new int[count + 1];
+        forEach(pool, tileRows, band -> finish(parent, band, sizes));
+
+        return new ComponentLabels(H, W, parent, sizes, count);
+    }
+
+    private void labelTile(int[] parent, int tile) {
+        int y0 = tile / tileCols * tileSize;
+        int x0 = tile % tileCols * tileSize;
+        int y1 = Math.min(y0 + tileSize, H);
+        int x1 = Math.min(x0 + tileSize, W);
+
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                int i = y * W + x;
+                if (!grid.isOpen(y, x)) {
+                    parent[i] = BLOCKED;
+                    continue;
+                }
+                parent[i] = i;
+                // 이미 훑은 이웃만 보면 된다: 왼쪽, 위, (8방향이면) 왼쪽 위, 오른쪽 위
+                if (x > x0) {
+                    localUnion(parent, i, i - 1);
+                }
+                if (y > y0) {
+                    localUnion(parent, i, i - W);
+                    if (maxDir == 8) {
+                        if (x > x0) {
+                            localUnion(parent, i, i - W - 1);
+                        }
+                        if (x + 1 < x1) {
+                            localUnion(parent, i, i - W + 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void mergeBorders(int[] parent, int tile) {
+        int y0 = tile / tileCols * tileSize;
+        int x0 = tile % tileCols * tileSize;
+        int y1 = Math.min(y0 + tileSize, H);
+        int x1 = Math.min(x0 + tileSize, W);
+
+        if (y0 > 0) {
+            for (int x = x0; x < x1; x++) {
+                int i = y0 * W + x;
+                if (parent[i] == BLOCKED) {
+                    continue;
+                }
+                union(parent, i, i - W);
+                if (maxDir == 8) {
+                    if (x > 0) {
+                        union(parent, i, i - W - 1);
+                    }
+                    if (x + 1 < W) {
+                        union(parent, i, i - W + 1);
+                    }
+                }
+            }
+        }
+        if (x0 > 0) {
+            for (int y = y0; y < y1; y++) {
+                int i = y * W + x0;
+                if (parent[i] == BLOCKED) {
+                    continue;
+                }
+                union(parent, i, i - 1);
+                if (maxDir == 8) {
+                    if (y > 0) {
+                        union(parent, i, i - W - 1);
+                    }
+                    if (y + 1 < H) {
+                        union(parent, i, i + W - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    // 모든 칸이 루트를 직접 가리키게 하고 띠 안의 루트 수를 센다.
+    // 다른 띠가 동시에 자기 칸을 루트로 바꿔 써도 여전히 같은 루트로 가는 경로라 결과는 같다.
+    private int flatten(int[] parent, int band) {
+        int from = band * tileSize * W;
+        int to = Math.min((band + 1) * tileSize, H) * W;
+        int roots = 0;
+        for (int i = from; i < to; i++) {
+            int p = parent[i];
+            if (p == BLOCKED) {
+                continue;
+            }
+            if (p == i) {
+                roots++;
+                continue;
+            }
+            int root = p;
+            while (parent[root] != root) {
+                root = parent[root];
+            }
+            parent[i] = root;
+        }
+        return roots;
+    }
+
+    // 루트 칸에 -번호를 적는다. 음수라서 아직 루트 번호를 가리키는 다른 칸과 구분된다.
+    private void numberRoots(int[] parent, int band, int firstLabel) {
+        int from = band * tileSize * W;
+        int to = Math.min((band + 1) * tileSize, H) * W;
+        int label = firstLabel;
+        for (int i = from; i < to; i++) {
+            if (parent[i] == i) {
+                parent[i] = -label++;
+            }
+        }
+    }
+
+    // 루트가 아닌 칸은 루트 칸의 번호를 양수로 옮겨 적는다. 루트 칸은 읽기만 하므로 띠끼리 겹치지 않는다.
+    private void copyRootLabels(int[] parent, int band) {
+        int from = band * tileSize * W;
+        int to = Math.min((band + 1) * tileSize, H) * W;
+        for (int i = from; i < to; i++) {
+            int p = parent[i];
+            if (p >= 0) {
+                parent[i] = -parent[p];
+            }
+        }
+    }
+
+    // 루트 칸과 막힌 칸을 마저 고치고 크기를 센다.
+    // 큰 요소는 같은 번호가 연달아 나오므로 구간 길이를 모아 한 번에 더한다.
+    private void finish(int[] parent, int band, int[] sizes) {
+        int from = band * tileSize * W;
+        int to = Math.min((band + 1) * tileSize, H) * W;
+        int runLabel = 0;
+        int runLength = 0;
+        for (int i = from; i < to; i++) {
+            int label = parent[i];
+            if (label < 0) {
+                label = label == BLOCKED ? 0 : -label;
+                parent[i] = label;
+            }
+            if (label == runLabel) {
+                runLength++;
+                continue;
+            }
+            if (runLabel != 0) {
+                INTS.getAndAdd(sizes, runLabel, runLength);
+            }
+            runLabel = label;
+            runLength = 1;
+        }
+        if (runLabel != 0) {
+            INTS.getAndAdd(sizes, runLabel, runLength);
+        }
+    }
+
+    private static void localUnion(int[] parent, int a, int b) {
+        if (parent[b] == BLOCKED) {
+            return;
+        }
+        a = localFind(parent, a);
+        b = localFind(parent, b);
+        if (a != b) {
+            parent[Math.max(a, b)] = Math.min(a, b);
+        }
+    }
+
+    private static int localFind(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // 루트는 더 작은 루트에만 연결되므로 parent를 따라가면 값이 줄어들기만 하고 순환이 생기지 않는다.
+    private static void union(int[] parent, int a, int b) {
+        if ((int) INTS.getVolatile(parent, b) == BLOCKED) {
+            return;
+        }
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) {
+                return;
+            }
+            int high = Math.max(a, b);
+            int low = Math.min(a, b);
+            if (INTS.compareAndSet(parent, high, high, low)) {
+                return;
+            }
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (true) {
+            int p = (int) INTS.getVolatile(parent, x);
+            if (p == x) {
+                return x;
+            }
+            int grand = (int) INTS.getVolatile(parent, p);
+            if (grand != p) {
+                // 경로 절반 압축. 실패해도 다른 스레드가 더 짧게 바꿔 둔 것이라 무시한다.
+                INTS.weakCompareAndSet(parent, x, p, grand);
+            }
+            x = grand;
+        }
+    }
+
+    private static void forEach(ForkJoinPool pool, int count, IntConsumer action) {
+        pool.invoke(new RangeAction(0, count, action));
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 3820165790834511273L;
+
+        private final int from, to;
+        private final IntConsumer action;
+
+        RangeAction(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    action.accept(from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, action), new RangeAction(mid, to, action));
+        }
+    }
+}
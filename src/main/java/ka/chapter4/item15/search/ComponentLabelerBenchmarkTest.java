@@ -0,0 +1,78 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 섬을 세려고 칸마다 DFS/BFS를 다시 시작하는 방식과 타일 병렬 라벨링을 비교한다.
+// 병렬 효과는 코어 수에 따라 달라지므로 결과가 같은지만 확인하고 시간은 출력만 한다.
+public class ComponentLabelerBenchmarkTest {
+    private static final int SIZE = 2_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    void componentLabelingBenchmark() {
+        int[][] map = GridBfsTest.randomMap(new Random(42), SIZE, SIZE, 0.55);
+        Grid grid = Grid.of(map);
+
+        for (int maxDir : new int[]{4, 8}) {
+            ComponentLabeler labeler = new ComponentLabeler(grid, maxDir);
+            int expected = countIslands(map, maxDir);
+            int count = 0;
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                count = countIslands(map, maxDir);
+                count = labeler.label().getCount();
+            }
+            assertThat(count).isEqualTo(expected);
+
+            long floodFill = Long.MAX_VALUE;
+            long tiled = Long.MAX_VALUE;
+            for (int round = 0; round < MEASURE_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                count += countIslands(map, maxDir);
+                floodFill = Math.min(floodFill, System.nanoTime() - startTime);
+
+                startTime = System.nanoTime();
+                count += labeler.label().getCount();
+                tiled = Math.min(tiled, System.nanoTime() - startTime);
+            }
+            System.out.println("maxDir = " + maxDir + ", islands = " + expected
+                    + ", flood fill = " + floodFill / 1_000_000.0 + "ms"
+                    + ", tiled labeling = " + tiled / 1_000_000.0 + "ms (" + count + ")");
+        }
+    }
+
+    // 기존 방식: 아직 방문하지 않은 1을 만날 때마다 그 자리에서 스택 DFS로 섬 하나를 칠한다.
+    private static int countIslands(int[][] map, int maxDir) {
+        int H = map.length, W = map[0].length;
+        boolean[][] visited = new boolean[H][W];
+        int[] stack = new int[H * W];
+        int islands = 0;
+        for (int y = 0; y < H; y++) {
+            for (int x = 0; x < W; x++) {
+                if (map[y][x] != 1 || visited[y][x]) {
+                    continue;
+                }
+                islands++;
+                int top = 0;
+                stack[top++] = y * W + x;
+                visited[y][x] = true;
+                while (top > 0) {
+                    int cur = stack[--top];
+                    int cy = cur / W, cx = cur % W;
+                    for (int i = 0; i < maxDir; i++) {
+                        int ny = cy + Directions.DY[i], nx = cx + Directions.DX[i];
+                        if (ny >= 0 && ny < H && nx >= 0 && nx < W && !visited[ny][nx] && map[ny][nx] == 1) {
+                            visited[ny][nx] = true;
+                            stack[top++] = ny * W + nx;
+                        }
+                    }
+                }
+            }
+        }
+        return islands;
+    }
+}
@@ -0,0 +1,98 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ComponentLabelerTest {
+    @Test
+    @DisplayName("타일 크기와 스레드 수에 상관없이 BFS로 찾은 섬과 같다")
+    void sameAsBfs() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int maxDir : new int[]{4, 8}) {
+                for (int round = 0; round < 10; round++) {
+                    int[][] map = GridBfsTest.randomMap(random, 20 + random.nextInt(30), 20 + random.nextInt(30), 0.5);
+                    int[] expected = labelByBfs(map, maxDir);
+                    for (int tileSize : new int[]{1, 3, 7, 256}) {
+                        ComponentLabels labels = new ComponentLabeler(Grid.of(map), maxDir, tileSize).label(pool);
+                        assertThat(labels.getLabels()).isEqualTo(expected);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("요소 크기와 연결 여부")
+    void sizes() {
+        int[][] map = {
+                {1, 1, 0, 1},
+                {0, 1, 0, 1},
+                {1, 0, 0, 1},
+                {1, 0, 1, 0}
+        };
+        ComponentLabels four = new ComponentLabeler(Grid.of(map), 4, 2).label();
+        assertThat(four.getCount()).isEqualTo(4);
+        assertThat(four.getSizes()).isEqualTo(new int[]{0, 3, 3, 2, 1});
+        assertThat(four.getLargestSize()).isEqualTo(3);
+        assertThat(four.isConnected(0, 0, 1, 1)).isTrue();
+        assertThat(four.isConnected(1, 1, 2, 0)).isFalse();
+        assertThat(four.isConnected(0, 2, 0, 2)).isFalse();
+
+        ComponentLabels eight = new ComponentLabeler(Grid.of(map), 8, 2).label();
+        assertThat(eight.getCount()).isEqualTo(2);
+        assertThat(eight.getSizes()).isEqualTo(new int[]{0, 5, 4});
+        assertThat(eight.isConnected(0, 0, 3, 0)).isTrue();
+        assertThat(eight.isConnected(0, 3, 3, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 요소가 모든 타일에 걸쳐 있어도 하나로 합쳐진다")
+    void spiralAcrossTiles() {
+        int[][] map = GridBfsTest.maze(new Random(7), 101, 101);
+        ComponentLabels labels = new ComponentLabeler(Grid.of(map), 4, 16).label();
+        assertThat(labels.getCount()).isEqualTo(1);
+        assertThat(labels.getSize(1)).isEqualTo(new GridBfs(map, 4).search(1, 1));
+    }
+
+    @Test
+    void invalidArguments() {
+        Grid grid = Grid.of(GridBfsTest.fullMap(2, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ComponentLabeler(grid, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ComponentLabeler(grid, 5));
+        ComponentLabels labels = new ComponentLabeler(grid, 4).label();
+        assertThrows(IndexOutOfBoundsException.class, () -> labels.getSize(2));
+    }
+
+    // 처음 나온 칸부터 BFS로 한 섬씩 칠하는 기준 구현
+    static int[] labelByBfs(int[][] map, int maxDir) {
+        int H = map.length, W = map[0].length;
+        int[] labels = new int[H * W];
+        GridBfs bfs = new GridBfs(map, maxDir);
+        int label = 0;
+        for (int y = 0; y < H; y++) {
+            for (int x = 0; x < W; x++) {
+                if (map[y][x] == 1 && labels[y * W + x] == 0) {
+                    label++;
+                    bfs.search(y, x);
+                    int[] distances = bfs.getDistances();
+                    for (int i = 0; i < labels.length; i++) {
+                        if (distances[i] >= 0) {
+                            labels[i] = label;
+                        }
+                    }
+                }
+            }
+        }
+        return labels;
+    }
+}
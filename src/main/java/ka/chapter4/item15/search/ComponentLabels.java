@@ -0,0 +1,60 @@
+package ka.chapter4.item15.search;
+
+// ComponentLabeler의 결과. 막힌 칸은 0, 연결 요소는 1부터 행 우선으로 처음 나타나는 순서대로 번호가 붙는다.
+public class ComponentLabels {
+    public static final int BACKGROUND = 0;
+
+    private final int H, W;
+    private final int[] labels;
+    private final int[] sizes;
+    private final int count;
+
+    ComponentLabels(int height, int width, int[] labels, int[] sizes, int count) {
+        this.H = height;
+        this.W = width;
+        this.labels = labels;
+        this.sizes = sizes;
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getLabel(int y, int x) {
+        if (y < 0 || y >= H || x < 0 || x >= W) {
+            throw new IndexOutOfBoundsException("(" + y + ", " + x + ") is out of " + H + "x" + W);
+        }
+        return labels[y * W + x];
+    }
+
+    public int getSize(int label) {
+        if (label < 1 || label > count) {
+            throw new IndexOutOfBoundsException("label " + label + " is out of 1.." + count);
+        }
+        return sizes[label];
+    }
+
+    public int getLargestSize() {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        return largest;
+    }
+
+    public boolean isConnected(int y1, int x1, int y2, int x2) {
+        int label = getLabel(y1, x1);
+        return label != BACKGROUND && label == getLabel(y2, x2);
+    }
+
+    // 칸 번호(y * W + x)마다의 요소 번호. 복사하지 않고 내부 배열을 돌려준다.
+    public int[] getLabels() {
+        return labels;
+    }
+
+    // 요소 번호마다의 칸 수. 0번은 비워 둔다.
+    public int[] getSizes() {
+        return sizes;
+    }
+}
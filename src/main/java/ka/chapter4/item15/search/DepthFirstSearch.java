@@ -18,6 +18,18 @@ public class DepthFirstSearch {
         this.maxDir = maxDir;
     }
 
+    public DepthFirstSearch(int[][] map, int maxDir) {
+        this.H = map.length;
+        this.W = map[0].length;
+        this.map = map;
+        this.visited = new boolean[H][W];
+        this.maxDir = maxDir;
+    }
+
+    public boolean isVisited(int y, int x) {
+        return visited[y][x];
+    }
+
     public void recursionDfs(int y, int x) {
         visited[y][x] = true;
 
@@ -0,0 +1,28 @@
+package ka.chapter4.item15.search;
+
+// BreadthFirstSearch, DepthFirstSearch와 같은 방향 순서를 쓴다.
+// 앞의 4개는 상하좌우, 나머지 4개는 대각선이다.
+final class Directions {
+    static final int[] DX = {1, 0, -1, 0, -1, 1, -1, 1};
+    static final int[] DY = {0, -1, 0, 1, -1, -1, 1, 1};
+
+    private Directions() {
+        throw new AssertionError();
+    }
+
+    static int checkMaxDir(int maxDir) {
+        if (maxDir != 4 && maxDir != 8) {
+            throw new IllegalArgumentException("maxDir must be 4 or 8: " + maxDir);
+        }
+        return maxDir;
+    }
+
+    // 칸 번호(y * W + x)에 더하면 이웃 칸 번호가 되는 값
+    static int[] offsets(int width, int maxDir) {
+        int[] offsets = new int[maxDir];
+        for (int i = 0; i < maxDir; i++) {
+            offsets[i] = DY[i] * width + DX[i];
+        }
+        return offsets;
+    }
+}
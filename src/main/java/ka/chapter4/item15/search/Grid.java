@@ -0,0 +1,15 @@
+package ka.chapter4.item15.search;
+
+// 탐색 엔진이 지도를 읽는 방식만 추상화한다.
+// 값이 1인 칸만 지나갈 수 있다는 기존 map 규칙을 그대로 따른다.
+public interface Grid {
+    int getHeight();
+
+    int getWidth();
+
+    boolean isOpen(int y, int x);
+
+    static Grid of(int[][] map) {
+        return new ArrayGrid(map);
+    }
+}
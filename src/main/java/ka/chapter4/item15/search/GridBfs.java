@@ -0,0 +1,192 @@
+package ka.chapter4.item15.search;
+
+// 좌표를 y * W + x 하나의 int로 묶고, 미리 할당한 int[] 원형 큐로 탐색한다.
+// 큐에 넣을 때 방문 처리하므로 한 칸은 한 번만 큐에 들어간다.
+// distance 배열이 방문 여부를 겸하고, parent 배열은 필요할 때만 만든다.
+// 탐색 전에 막힌 칸을 distance 배열에 WALL로 옮겨 두어 탐색 중에는 지도를 읽지 않는다.
+public class GridBfs {
+    public static final int UNVISITED = -1;
+    public static final int NO_PARENT = -1;
+    private static final int WALL = -2;
+
+    private final Grid grid;
+    private final int maxDir;
+    private final int H, W;
+    private final int[] offsets;
+    private final int[] distance;
+    private final int[] parent;
+    private int[] queue;
+    private int visitedCount;
+
+    public GridBfs(int[][] map, int maxDir) {
+        this(Grid.of(map), maxDir, false);
+    }
+
+    public GridBfs(Grid grid, int maxDir, boolean trackParent) {
+        this.grid = grid;
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.H = grid.getHeight();
+        this.W = grid.getWidth();
+        this.offsets = Directions.offsets(W, maxDir);
+        this.distance = new int[H * W];
+        this.parent = trackParent ? new int[H * W] : null;
+        // 격자 BFS의 전선은 보통 둘레 길이 정도라 그만큼으로 시작하고, 모자라면 두 배씩 늘린다.
+        this.queue = new int[initialCapacity(H, W)];
+    }
+
+    public int index(int y, int x) {
+        if (y < 0 || y >= H || x < 0 || x >= W) {
+            throw new IndexOutOfBoundsException("(" + y + ", " + x + ") is out of " + H + "x" + W);
+        }
+        return y * W + x;
+    }
+
+    public int y(int index) {
+        return index / W;
+    }
+
+    public int x(int index) {
+        return index % W;
+    }
+
+    public int search(int y, int x) {
+        return searchFrom(index(y, x));
+    }
+
+    // 여러 칸에서 동시에 시작한다. 칸은 index(y, x)로 만든 번호로 넘긴다.
+    // 이름을 search와 다르게 둔 것은, 번호 두 개를 넘기면 search(y, x)가 골라지기 때문이다.
+    // 시작 칸은 queueBfs와 마찬가지로 map 값과 상관없이 방문 처리한다.
+    // 반환값은 방문한 칸 수
+    public int searchFrom(int... sources) {
+        reset();
+
+        int[] queue = this.queue;
+        int mask = queue.length - 1;
+        int head = 0;
+        int size = 0;
+        for (int source : sources) {
+            if (source < 0 || source >= distance.length) {
+                throw new IndexOutOfBoundsException("source " + source + " is out of " + H + "x" + W);
+            }
+            if (distance[source] >= 0) {
+                continue;
+            }
+            distance[source] = 0;
+            if (parent != null) {
+                parent[source] = NO_PARENT;
+            }
+            if (size == queue.length) {
+                queue = grow(queue, head, size);
+                mask = queue.length - 1;
+                head = 0;
+            }
+            queue[(head + size++) & mask] = source;
+        }
+
+        int[] distance = this.distance;
+        int[] parent = this.parent;
+        int[] offsets = this.offsets;
+        int visited = size;
+        while (size > 0) {
+            int cur = queue[head];
+            head = (head + 1) & mask;
+            size--;
+
+            int cy = cur / W;
+            int cx = cur - cy * W;
+            int next = distance[cur] + 1;
+            for (int i = 0; i < maxDir; i++) {
+                int nx = cx + Directions.DX[i];
+                int ny = cy + Directions.DY[i];
+
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                    int n = cur + offsets[i];
+                    if (distance[n] == UNVISITED) {
+                        distance[n] = next;
+                        if (parent != null) {
+                            parent[n] = cur;
+                        }
+                        if (size == queue.length) {
+                            queue = grow(queue, head, size);
+                            mask = queue.length - 1;
+                            head = 0;
+                        }
+                        queue[(head + size++) & mask] = n;
+                        visited++;
+                    }
+                }
+            }
+        }
+        this.queue = queue;
+        this.visitedCount = visited;
+        return visited;
+    }
+
+    public boolean isVisited(int y, int x) {
+        return distance[index(y, x)] >= 0;
+    }
+
+    // 방문하지 못한 칸은 UNVISITED
+    public int getDistance(int y, int x) {
+        return Math.max(distance[index(y, x)], UNVISITED);
+    }
+
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    // 복사하지 않고 내부 배열을 그대로 돌려준다. 다음 search 호출에서 덮어쓴다.
+    // 방문하지 못한 칸은 음수다.
+    public int[] getDistances() {
+        return distance;
+    }
+
+    public int[] getParents() {
+        if (parent == null) {
+            throw new IllegalStateException("parent tracking is disabled");
+        }
+        return parent;
+    }
+
+    // 가장 가까운 시작 칸부터 (y, x)까지의 칸 번호. 도달하지 못했으면 빈 배열
+    public int[] path(int y, int x) {
+        int target = index(y, x);
+        int[] parent = getParents();
+        if (distance[target] < 0) {
+            return new int[0];
+        }
+        int[] path = new int[distance[target] + 1];
+        for (int i = path.length - 1, cur = target; i >= 0; i--, cur = parent[cur]) {
+            path[i] = cur;
+        }
+        return path;
+    }
+
+    public int getQueueCapacity() {
+        return queue.length;
+    }
+
+    private void reset() {
+        int[] distance = this.distance;
+        for (int y = 0, i = 0; y < H; y++) {
+            for (int x = 0; x < W; x++, i++) {
+                distance[i] = grid.isOpen(y, x) ? UNVISITED : WALL;
+            }
+        }
+        visitedCount = 0;
+    }
+
+    private static int[] grow(int[] queue, int head, int size) {
+        int[] grown = new int[queue.length << 1];
+        int first = Math.min(size, queue.length - head);
+        System.arraycopy(queue, head, grown, 0, first);
+        System.arraycopy(queue, 0, grown, first, size - first);
+        return grown;
+    }
+
+    private static int initialCapacity(int height, int width) {
+        long cells = (long) height * width;
+        long perimeter = 4L * (height + width);
+        return Integer.highestOneBit((int) Math.max(16, Math.min(cells, perimeter)) - 1) << 1;
+    }
+}
@@ -0,0 +1,58 @@
+package ka.chapter4.item15.search;
+
+import ka.chapter4.ThreadAllocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영에서는 10k x 10k 격자를 쓰지만 테스트 힙에 맞게 크기를 줄였다.
+// 두 구현 모두 같은 지도에서 같은 시작점으로 탐색하고, 시간과 스레드 할당량을 비교한다.
+// queueBfs는 순환이 있으면 같은 칸을 중복으로 넣어 큐가 폭증하므로, 순환이 없는 미로에서 잰다.
+public class GridBfsBenchmarkTest {
+    private static final int SIZE = 1_000;
+    private static final int WARMUP_ROUNDS = 15;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    void ringBufferBfsBenchmark() {
+        int[][] map = GridBfsTest.maze(new Random(41), SIZE + 1, SIZE + 1);
+
+        long[] legacy = measure("LinkedList queueBfs", () -> {
+            BreadthFirstSearch bfs = new BreadthFirstSearch(map, 4);
+            bfs.queueBfs(1, 1);
+            return bfs.isVisited(SIZE - 1, SIZE - 1) ? 1 : 0;
+        });
+        GridBfs gridBfs = new GridBfs(map, 4);
+        long[] ring = measure("ring buffer GridBfs", () -> gridBfs.search(1, 1));
+
+        System.out.println("speedup = " + (double) legacy[0] / ring[0] + "x");
+        assertThat(ring[0]).isLessThan(legacy[0]);
+        ThreadAllocation.assumeSupported();
+        assertThat(ring[1]).isLessThanOrEqualTo(legacy[1]);
+    }
+
+    private static long[] measure(String name, Search search) {
+        long result = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            result += search.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startBytes = ThreadAllocation.allocatedBytes();
+            long startTime = System.nanoTime();
+            result += search.run();
+            best = Math.min(best, System.nanoTime() - startTime);
+            allocated = Math.min(allocated, ThreadAllocation.allocatedBytes() - startBytes);
+        }
+        System.out.println(name + " = " + best / 1_000_000.0 + "ms, allocated = " + allocated + "B (" + result + ")");
+        return new long[]{best, allocated};
+    }
+
+    private interface Search {
+        long run();
+    }
+}
@@ -0,0 +1,183 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GridBfsTest {
+    @Test
+    @DisplayName("queueBfs와 같은 칸을 방문한다")
+    void sameVisitedCellsAsQueueBfs() {
+        // queueBfs는 순환이 있는 지도에서 같은 칸을 계속 다시 넣어 큐가 폭증하므로,
+        // 연결 영역이 작은 희소한 지도와 순환이 없는 미로에서 비교한다.
+        Random random = new Random(41);
+        for (int maxDir : new int[]{4, 8}) {
+            for (int round = 0; round < 20; round++) {
+                int[][] map = round % 2 == 0 ? randomMap(random, 30, 40, 0.35) : maze(random, 30, 40);
+                map[3][5] = 1;
+                BreadthFirstSearch legacy = new BreadthFirstSearch(map, maxDir);
+                GridBfs bfs = new GridBfs(map, maxDir);
+                legacy.queueBfs(3, 5);
+                bfs.search(3, 5);
+
+                for (int y = 0; y < 30; y++) {
+                    for (int x = 0; x < 40; x++) {
+                        assertThat(bfs.isVisited(y, x)).isEqualTo(legacy.isVisited(y, x));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("최단 거리와 경로")
+    void distanceAndPath() {
+        int[][] map = {
+                {1, 1, 1, 1},
+                {0, 0, 0, 1},
+                {1, 1, 1, 1},
+                {1, 0, 0, 0}
+        };
+        GridBfs bfs = new GridBfs(Grid.of(map), 4, true);
+        assertThat(bfs.search(0, 0)).isEqualTo(10);
+        assertThat(bfs.getDistance(0, 3)).isEqualTo(3);
+        assertThat(bfs.getDistance(3, 0)).isEqualTo(9);
+        assertThat(bfs.isVisited(3, 1)).isFalse();
+
+        int[] path = bfs.path(3, 0);
+        assertThat(path).hasSize(10);
+        assertThat(path[0]).isEqualTo(bfs.index(0, 0));
+        assertThat(path[9]).isEqualTo(bfs.index(3, 0));
+        for (int i = 1; i < path.length; i++) {
+            int dy = Math.abs(bfs.y(path[i]) - bfs.y(path[i - 1]));
+            int dx = Math.abs(bfs.x(path[i]) - bfs.x(path[i - 1]));
+            assertThat(dy + dx).isEqualTo(1);
+        }
+        assertThat(bfs.path(3, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("8방향은 대각선 이동을 한 걸음으로 센다")
+    void diagonalDistance() {
+        int[][] map = fullMap(5, 5);
+        GridBfs bfs = new GridBfs(map, 8);
+        bfs.search(0, 0);
+        assertThat(bfs.getDistance(4, 4)).isEqualTo(4);
+
+        bfs = new GridBfs(map, 4);
+        bfs.search(0, 0);
+        assertThat(bfs.getDistance(4, 4)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("여러 시작 칸에서 가장 가까운 거리")
+    void multiSource() {
+        int[][] map = fullMap(1, 10);
+        GridBfs bfs = new GridBfs(Grid.of(map), 4, true);
+        // 시작 칸 번호 두 개만 넘겨도 (y, x) 좌표로 해석되지 않는다.
+        assertThat(bfs.searchFrom(bfs.index(0, 0), bfs.index(0, 9))).isEqualTo(10);
+        assertThat(bfs.getDistances()).isEqualTo(new int[]{0, 1, 2, 3, 4, 4, 3, 2, 1, 0});
+        assertThat(bfs.getParents()[0]).isEqualTo(GridBfs.NO_PARENT);
+        assertThat(bfs.getParents()[9]).isEqualTo(GridBfs.NO_PARENT);
+        assertThat(bfs.path(0, 6)[0]).isEqualTo(bfs.index(0, 9));
+
+        // 같은 칸이 여러 번 들어와도 한 번만 시작한다.
+        assertThat(bfs.searchFrom(bfs.index(0, 0), bfs.index(0, 9), bfs.index(0, 9))).isEqualTo(10);
+        assertThat(bfs.getDistances()).isEqualTo(new int[]{0, 1, 2, 3, 4, 4, 3, 2, 1, 0});
+    }
+
+    @Test
+    @DisplayName("다시 탐색하면 이전 결과를 지운다")
+    void searchResets() {
+        int[][] map = {
+                {1, 0, 1}
+        };
+        GridBfs bfs = new GridBfs(map, 4);
+        assertThat(bfs.search(0, 0)).isEqualTo(1);
+        assertThat(bfs.search(0, 2)).isEqualTo(1);
+        assertThat(bfs.isVisited(0, 0)).isFalse();
+        assertThat(bfs.getVisitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐는 부족할 때만 늘어난다")
+    void queueGrows() {
+        // 모든 칸이 열린 격자에서 8방향 다중 시작이면 전선이 둘레보다 커진다.
+        int[][] map = fullMap(64, 64);
+        GridBfs bfs = new GridBfs(map, 8);
+        int[] sources = new int[64 * 64 / 2];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i * 2;
+        }
+        assertThat(bfs.searchFrom(sources)).isEqualTo(64 * 64);
+        assertThat(bfs.getQueueCapacity()).isGreaterThanOrEqualTo(sources.length);
+        assertThat(bfs.getDistance(0, 1)).isEqualTo(1);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GridBfs(fullMap(2, 2), 6));
+        assertThrows(IllegalArgumentException.class, () -> new GridBfs(new int[][]{{1}, {1, 1}}, 4));
+        GridBfs bfs = new GridBfs(fullMap(2, 2), 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> bfs.search(2, 0));
+        assertThrows(IllegalStateException.class, () -> bfs.path(0, 0));
+    }
+
+    static int[][] randomMap(Random random, int height, int width, double openRate) {
+        int[][] map = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                map[y][x] = random.nextDouble() < openRate ? 1 : 0;
+            }
+        }
+        return map;
+    }
+
+    // 홀수 좌표 칸을 방으로 쓰는 완전 미로. 순환이 없어 모든 방 사이 경로가 하나뿐이다.
+    static int[][] maze(Random random, int height, int width) {
+        int[][] map = new int[height][width];
+        int rows = (height - 1) / 2;
+        int cols = (width - 1) / 2;
+        int[] stack = new int[rows * cols];
+        int top = 0;
+        map[1][1] = 1;
+        stack[top++] = 0;
+        int[] dirs = new int[4];
+        while (top > 0) {
+            int cur = stack[top - 1];
+            int cy = cur / cols;
+            int cx = cur % cols;
+            int count = 0;
+            for (int i = 0; i < 4; i++) {
+                int ny = cy + Directions.DY[i];
+                int nx = cx + Directions.DX[i];
+                if (ny >= 0 && ny < rows && nx >= 0 && nx < cols && map[ny * 2 + 1][nx * 2 + 1] == 0) {
+                    dirs[count++] = i;
+                }
+            }
+            if (count == 0) {
+                top--;
+                continue;
+            }
+            int dir = dirs[random.nextInt(count)];
+            int ny = cy + Directions.DY[dir];
+            int nx = cx + Directions.DX[dir];
+            map[cy * 2 + 1 + Directions.DY[dir]][cx * 2 + 1 + Directions.DX[dir]] = 1;
+            map[ny * 2 + 1][nx * 2 + 1] = 1;
+            stack[top++] = ny * cols + nx;
+        }
+        return map;
+    }
+
+    static int[][] fullMap(int height, int width) {
+        int[][] map = new int[height][width];
+        for (int[] row : map) {
+            java.util.Arrays.fill(row, 1);
+        }
+        return map;
+    }
+}
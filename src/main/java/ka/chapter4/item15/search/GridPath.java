@@ -0,0 +1,61 @@
+package ka.chapter4.item15.search;
+
+// GridPathFinder가 찾은 경로. 칸 번호(y * W + x)를 시작 칸부터 목표 칸까지 담는다.
+public class GridPath {
+    private static final int[] EMPTY = new int[0];
+
+    private final int W;
+    private final int[] cells;
+    private final double cost;
+    private final int expandedCount;
+
+    GridPath(int width, int[] cells, double cost, int expandedCount) {
+        this.W = width;
+        this.cells = cells;
+        this.cost = cost;
+        this.expandedCount = expandedCount;
+    }
+
+    static GridPath notFound(int expandedCount) {
+        return new GridPath(1, EMPTY, Double.POSITIVE_INFINITY, expandedCount);
+    }
+
+    public boolean isFound() {
+        return cells.length > 0;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    // 지나는 칸 수(시작, 목표 칸 포함)
+    public int getLength() {
+        return cells.length;
+    }
+
+    public int getY(int step) {
+        return cells[step] / W;
+    }
+
+    public int getX(int step) {
+        return cells[step] % W;
+    }
+
+    public int[] getCells() {
+        return cells.clone();
+    }
+
+    // 이 경로를 찾는 동안 확정한 칸 수. Dijkstra와 A*를 비교할 때 쓴다.
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "GridPath{" +
+                "length=" + cells.length +
+                ", cost=" + cost +
+                ", expandedCount=" + expandedCount +
+                '}';
+    }
+}
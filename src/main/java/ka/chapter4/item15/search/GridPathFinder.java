@@ -0,0 +1,195 @@
+package ka.chapter4.item15.search;
+
+import java.util.Arrays;
+
+// 가중치가 있는 격자에서 Dijkstra와 A*로 최단 경로를 구한다.
+// costs[y][x]는 그 칸에 들어가는 비용이고 0이면 막힌 칸이다. 모든 칸이 1인 지도는 기존 map과 같다.
+// 대각선 이동은 비용에 √2를 곱한다. A*의 휴리스틱은 4방향이면 맨해튼 거리, 8방향이면 옥타일 거리에
+// 가장 싼 칸 비용을 곱한 값이라 실제 비용을 넘지 않고, 그래서 A*도 Dijkstra와 같은 최단 비용을 낸다.
+//
+// 칸마다 들고 있는 distance, parent는 탐색마다 지우지 않고 stamp로 이번 탐색 값인지 구분한다.
+// 목표에 일찍 도착한 탐색은 건드린 칸 수에만 비례하는 시간이 든다.
+public class GridPathFinder {
+    private static final double SQRT2 = Math.sqrt(2);
+    private static final double[] STEP = {1, 1, 1, 1, SQRT2, SQRT2, SQRT2, SQRT2};
+
+    private final int[] costs;
+    private final int maxDir;
+    private final int H, W;
+    private final int[] offsets;
+    private final int minCost;
+    private final double[] distance;
+    private final int[] parent;
+    // stamp == searchId면 이번 탐색에서 거리가 정해진 칸, -searchId면 확정된 칸
+    private final int[] stamp;
+    private final IndexedMinHeap heap;
+    private int searchId;
+    private int expandedCount;
+
+    public GridPathFinder(Grid grid, int maxDir) {
+        this(unitCosts(grid), maxDir);
+    }
+
+    public GridPathFinder(int[][] costs, int maxDir) {
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.H = costs.length;
+        this.W = H == 0 ? 0 : costs[0].length;
+        if (H == 0 || W == 0) {
+            throw new IllegalArgumentException("costs is empty");
+        }
+        if ((long) H * W > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("costs is too large: " + H + "x" + W);
+        }
+        this.costs = new int[H * W];
+        int minCost = Integer.MAX_VALUE;
+        for (int y = 0; y < H; y++) {
+            if (costs[y].length != W) {
+                throw new IllegalArgumentException("costs must be rectangular");
+            }
+            for (int x = 0; x < W; x++) {
+                int cost = costs[y][x];
+                if (cost < 0) {
+                    throw new IllegalArgumentException("cost must not be negative: (" + y + ", " + x + ") = " + cost);
+                }
+                this.costs[y * W + x] = cost;
+                if (cost > 0) {
+                    minCost = Math.min(minCost, cost);
+                }
+            }
+        }
+        this.minCost = minCost == Integer.MAX_VALUE ? 0 : minCost;
+        this.offsets = Directions.offsets(W, maxDir);
+        this.distance = new double[H * W];
+        this.parent = new int[H * W];
+        this.stamp = new int[H * W];
+        this.heap = new IndexedMinHeap(H * W);
+    }
+
+    public GridPath dijkstra(int sy, int sx, int ty, int tx) {
+        return search(index(sy, sx), index(ty, tx), false);
+    }
+
+    public GridPath aStar(int sy, int sx, int ty, int tx) {
+        return search(index(sy, sx), index(ty, tx), true);
+    }
+
+    // 목표 없이 모든 칸까지의 거리를 구한다. 결과는 getDistance로 읽는다.
+    public void dijkstraAll(int sy, int sx) {
+        search(index(sy, sx), -1, false);
+    }
+
+    // 마지막 탐색에서 확정된 거리. 도달하지 못했거나 확정 전에 끝났으면 무한대
+    public double getDistance(int y, int x) {
+        int i = index(y, x);
+        return stamp[i] == -searchId ? distance[i] : Double.POSITIVE_INFINITY;
+    }
+
+    // 마지막 탐색에서 힙에서 꺼내 확정한 칸 수
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    public int index(int y, int x) {
+        if (y < 0 || y >= H || x < 0 || x >= W) {
+            throw new IndexOutOfBoundsException("(" + y + ", " + x + ") is out of " + H + "x" + W);
+        }
+        return y * W + x;
+    }
+
+    // 시작 칸은 BFS와 마찬가지로 막혀 있어도 출발할 수 있고, 시작 칸의 비용은 세지 않는다.
+    private GridPath search(int source, int target, boolean useHeuristic) {
+        int id = nextSearchId();
+        int ty = target < 0 ? 0 : target / W;
+        int tx = target < 0 ? 0 : target - ty * W;
+        int[] costs = this.costs;
+        double[] distance = this.distance;
+        int[] parent = this.parent;
+        int[] stamp = this.stamp;
+        IndexedMinHeap heap = this.heap;
+
+        distance[source] = 0;
+        parent[source] = -1;
+        stamp[source] = id;
+        heap.offer(source, useHeuristic ? heuristic(source, ty, tx) : 0);
+        int expanded = 0;
+        boolean found = false;
+        while (!heap.isEmpty()) {
+            int cur = heap.poll();
+            stamp[cur] = -id;
+            expanded++;
+            if (cur == target) {
+                found = true;
+                break;
+            }
+
+            int cy = cur / W;
+            int cx = cur - cy * W;
+            double base = distance[cur];
+            for (int i = 0; i < maxDir; i++) {
+                int nx = cx + Directions.DX[i];
+                int ny = cy + Directions.DY[i];
+
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                    int n = cur + offsets[i];
+                    int cost = costs[n];
+                    if (cost == 0 || stamp[n] == -id) {
+                        continue;
+                    }
+                    double next = base + cost * STEP[i];
+                    if (stamp[n] != id || next < distance[n]) {
+                        distance[n] = next;
+                        parent[n] = cur;
+                        stamp[n] = id;
+                        heap.offer(n, useHeuristic ? next + heuristic(n, ty, tx) : next);
+                    }
+                }
+            }
+        }
+        heap.clear();
+        expandedCount = expanded;
+
+        if (target < 0) {
+            return null;
+        }
+        if (!found) {
+            return GridPath.notFound(expanded);
+        }
+        int length = 1;
+        for (int cur = target; parent[cur] >= 0; cur = parent[cur]) {
+            length++;
+        }
+        int[] cells = new int[length];
+        for (int i = length - 1, cur = target; i >= 0; i--, cur = parent[cur]) {
+            cells[i] = cur;
+        }
+        return new GridPath(W, cells, distance[target], expanded);
+    }
+
+    private double heuristic(int cell, int ty, int tx) {
+        int cy = cell / W;
+        int dy = Math.abs(cy - ty);
+        int dx = Math.abs(cell - cy * W - tx);
+        if (maxDir == 4) {
+            return (double) minCost * (dy + dx);
+        }
+        return minCost * (Math.max(dy, dx) + (SQRT2 - 1) * Math.min(dy, dx));
+    }
+
+    private int nextSearchId() {
+        if (searchId == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            searchId = 0;
+        }
+        return ++searchId;
+    }
+
+    private static int[][] unitCosts(Grid grid) {
+        int[][] costs = new int[grid.getHeight()][grid.getWidth()];
+        for (int y = 0; y < costs.length; y++) {
+            for (int x = 0; x < costs[y].length; x++) {
+                costs[y][x] = grid.isOpen(y, x) ? 1 : 0;
+            }
+        }
+        return costs;
+    }
+}
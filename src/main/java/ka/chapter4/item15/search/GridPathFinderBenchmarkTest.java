@@ -0,0 +1,105 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 대각선 끝에서 끝까지의 최단 경로를 세 가지로 구해 비교한다.
+// PriorityQueue<Entry>: 칸마다 객체를 만들고 키를 줄이는 대신 중복으로 넣는 흔한 Dijkstra 구현
+public class GridPathFinderBenchmarkTest {
+    private static final int SIZE = 1_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    void randomGridBenchmark() {
+        int[][] costs = GridPathFinderTest.randomCosts(new Random(45), SIZE, SIZE, 0.2);
+        costs[0][0] = costs[SIZE - 1][SIZE - 1] = 1;
+        run("random", costs, 0, 0, SIZE - 1, SIZE - 1);
+    }
+
+    @Test
+    void mazeBenchmark() {
+        int[][] costs = GridBfsTest.maze(new Random(45), SIZE + 1, SIZE + 1);
+        run("maze", costs, 1, 1, SIZE - 1, SIZE - 1);
+    }
+
+    private static void run(String name, int[][] costs, int sy, int sx, int ty, int tx) {
+        for (int maxDir : new int[]{4, 8}) {
+            GridPathFinder finder = new GridPathFinder(costs, maxDir);
+            double boxed = measure(name + " " + maxDir + " PriorityQueue<Entry>", () -> boxedDijkstra(costs, maxDir, sy, sx, ty, tx));
+            double dijkstra = measure(name + " " + maxDir + " Dijkstra", () -> finder.dijkstra(sy, sx, ty, tx).getCost());
+            double aStar = measure(name + " " + maxDir + " A*", () -> finder.aStar(sy, sx, ty, tx).getCost());
+
+            GridPath dijkstraPath = finder.dijkstra(sy, sx, ty, tx);
+            GridPath aStarPath = finder.aStar(sy, sx, ty, tx);
+            double expected = boxedDijkstra(costs, maxDir, sy, sx, ty, tx);
+            assertThat(dijkstraPath.getCost()).isCloseTo(expected, within(1e-6));
+            assertThat(aStarPath.getCost()).isCloseTo(expected, within(1e-6));
+            assertThat(aStarPath.getExpandedCount()).isLessThanOrEqualTo(dijkstraPath.getExpandedCount());
+            System.out.println(name + " " + maxDir + " expanded: Dijkstra = " + dijkstraPath.getExpandedCount()
+                    + ", A* = " + aStarPath.getExpandedCount()
+                    + ", speedup vs boxed: Dijkstra = " + boxed / dijkstra + "x, A* = " + boxed / aStar + "x");
+        }
+    }
+
+    private static double measure(String name, DoubleSupplier search) {
+        double result = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            result += search.getAsDouble();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long startTime = System.nanoTime();
+            result += search.getAsDouble();
+            best = Math.min(best, System.nanoTime() - startTime);
+        }
+        System.out.println(name + " = " + best / 1_000_000.0 + "ms (" + result + ")");
+        return best;
+    }
+
+    // 키는 넣을 때의 거리로 고정한다. 비교기가 distance 배열을 읽으면 큐 안에 있는 칸의 거리가 줄 때
+    // 힙 순서가 깨진다. 더 짧은 거리로 다시 넣은 칸의 옛 항목은 꺼낼 때 건너뛴다.
+    private static double boxedDijkstra(int[][] costs, int maxDir, int sy, int sx, int ty, int tx) {
+        int H = costs.length, W = costs[0].length;
+        double[][] distance = new double[H][W];
+        for (double[] row : distance) {
+            java.util.Arrays.fill(row, Double.POSITIVE_INFINITY);
+        }
+        PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingDouble(Entry::distance));
+        boolean[][] done = new boolean[H][W];
+        distance[sy][sx] = 0;
+        queue.offer(new Entry(sy, sx, 0));
+        while (!queue.isEmpty()) {
+            Entry cur = queue.poll();
+            if (done[cur.y()][cur.x()] || cur.distance() > distance[cur.y()][cur.x()]) {
+                continue;
+            }
+            done[cur.y()][cur.x()] = true;
+            if (cur.y() == ty && cur.x() == tx) {
+                break;
+            }
+            for (int i = 0; i < maxDir; i++) {
+                int nx = cur.x() + Directions.DX[i];
+                int ny = cur.y() + Directions.DY[i];
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H && costs[ny][nx] > 0 && !done[ny][nx]) {
+                    double next = cur.distance() + costs[ny][nx] * (i < 4 ? 1 : Math.sqrt(2));
+                    if (next < distance[ny][nx]) {
+                        distance[ny][nx] = next;
+                        queue.offer(new Entry(ny, nx, next));
+                    }
+                }
+            }
+        }
+        return distance[ty][tx];
+    }
+
+    private record Entry(int y, int x, double distance) {
+    }
+}
@@ -0,0 +1,136 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GridPathFinderTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("비용이 모두 1이면 BFS 거리와 같다")
+    void unitCostsSameAsBfs() {
+        int[][] map = GridBfsTest.randomMap(new Random(45), 40, 40, 0.65);
+        map[0][0] = 1;
+        GridBfs bfs = new GridBfs(map, 4);
+        bfs.search(0, 0);
+        GridPathFinder finder = new GridPathFinder(Grid.of(map), 4);
+        finder.dijkstraAll(0, 0);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                int expected = bfs.getDistance(y, x);
+                assertThat(finder.getDistance(y, x)).isEqualTo(expected < 0 ? Double.POSITIVE_INFINITY : expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A*는 Dijkstra와 같은 비용을 더 적게 확정하며 찾는다")
+    void aStarSameCostAsDijkstra() {
+        Random random = new Random(45);
+        for (int maxDir : new int[]{4, 8}) {
+            int[][] costs = randomCosts(random, 60, 60, 0.25);
+            GridPathFinder finder = new GridPathFinder(costs, maxDir);
+            for (int round = 0; round < 30; round++) {
+                int sy = random.nextInt(60), sx = random.nextInt(60);
+                int ty = random.nextInt(60), tx = random.nextInt(60);
+                GridPath dijkstra = finder.dijkstra(sy, sx, ty, tx);
+                GridPath aStar = finder.aStar(sy, sx, ty, tx);
+
+                assertThat(aStar.isFound()).isEqualTo(dijkstra.isFound());
+                assertThat(aStar.getExpandedCount()).isLessThanOrEqualTo(dijkstra.getExpandedCount());
+                if (dijkstra.isFound()) {
+                    assertThat(aStar.getCost()).isCloseTo(dijkstra.getCost(), within(EPSILON));
+                    assertThat(pathCost(costs, aStar)).isCloseTo(dijkstra.getCost(), within(EPSILON));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("대각선 이동은 √2배 비용이 든다")
+    void diagonalCost() {
+        int[][] costs = {
+                {1, 1, 1},
+                {1, 5, 1},
+                {1, 1, 1}
+        };
+        GridPathFinder finder = new GridPathFinder(costs, 8);
+        GridPath path = finder.aStar(0, 0, 2, 2);
+        // 가운데(5)를 지나는 대각선 5√2 + √2보다 가장자리로 도는 1 + √2 + 1이 싸다.
+        assertThat(path.getCost()).isCloseTo(2 + Math.sqrt(2), within(EPSILON));
+        assertThat(path.getLength()).isEqualTo(4);
+
+        GridPath straight = new GridPathFinder(costs, 4).dijkstra(0, 0, 2, 2);
+        assertThat(straight.getCost()).isCloseTo(4, within(EPSILON));
+        assertThat(straight.getY(0)).isEqualTo(0);
+        assertThat(straight.getX(0)).isEqualTo(0);
+        assertThat(straight.getY(4)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("막힌 목표나 갇힌 시작은 경로가 없다")
+    void notFound() {
+        int[][] costs = {
+                {1, 0, 1},
+                {0, 0, 1},
+                {1, 1, 0}
+        };
+        GridPathFinder finder = new GridPathFinder(costs, 4);
+        GridPath path = finder.aStar(0, 0, 0, 2);
+        assertThat(path.isFound()).isFalse();
+        assertThat(path.getCost()).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(path.getLength()).isEqualTo(0);
+        assertThat(finder.dijkstra(0, 2, 1, 1).isFound()).isFalse();
+        assertThat(new GridPathFinder(costs, 8).dijkstra(0, 2, 1, 2).getCost()).isCloseTo(1, within(EPSILON));
+        assertThat(finder.dijkstra(2, 0, 2, 0).isFound()).isTrue();
+    }
+
+    @Test
+    @DisplayName("목표에 닿으면 나머지 칸은 확정하지 않는다")
+    void earlyExit() {
+        int[][] costs = new int[100][100];
+        for (int[] row : costs) {
+            java.util.Arrays.fill(row, 1);
+        }
+        GridPathFinder finder = new GridPathFinder(costs, 4);
+        GridPath path = finder.aStar(0, 0, 0, 10);
+        assertThat(path.getCost()).isCloseTo(10, within(EPSILON));
+        assertThat(path.getExpandedCount()).isLessThan(100);
+        assertThat(finder.getDistance(99, 99)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GridPathFinder(new int[][]{{1, -1}}, 4));
+        assertThrows(IllegalArgumentException.class, () -> new GridPathFinder(new int[][]{{1}}, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> new GridPathFinder(new int[][]{{1}}, 4).dijkstra(0, 0, 1, 0));
+    }
+
+    static int[][] randomCosts(Random random, int height, int width, double blockedRate) {
+        int[][] costs = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                costs[y][x] = random.nextDouble() < blockedRate ? 0 : 1 + random.nextInt(9);
+            }
+        }
+        return costs;
+    }
+
+    private static double pathCost(int[][] costs, GridPath path) {
+        double cost = 0;
+        for (int step = 1; step < path.getLength(); step++) {
+            int y = path.getY(step), x = path.getX(step);
+            int dy = Math.abs(y - path.getY(step - 1)), dx = Math.abs(x - path.getX(step - 1));
+            // 이웃한 칸으로 한 칸씩 움직인다.
+            assertThat(Math.max(dy, dx)).isEqualTo(1);
+            cost += costs[y][x] * (dy + dx == 2 ? Math.sqrt(2) : 1);
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,326 @@
+package ka.chapter4.item15.search;
+
+import java.util.Arrays;
+
+// 칸이 하나씩 열리고 닫히는 격자에서 연결 여부와 요소 크기를 바로 답한다.
+// 칸마다 요소 번호(id)를 두고, id끼리 union-find로 묶는다.
+// - 칸을 열면 새 id를 만들어 열린 이웃의 id와 합친다. O(α(n))
+// - 칸을 닫으면 닫힌 칸의 이웃들에서 동시에 BFS를 한 칸씩 번갈아 진행한다.
+//   두 BFS가 만나면 같은 조각으로 합치고, 먼저 끝난 조각은 떨어져 나간 것이므로 그 칸들에만 새 id를 준다.
+//   조각이 하나만 남으면 멈추고 그 조각은 원래 id를 그대로 쓰므로, 작업량은 떨어져 나간 작은 조각 크기에 비례한다.
+// 칸이 아니라 id를 union-find 원소로 쓰기 때문에 닫힌 칸이 트리 중간에 남는 문제가 없다.
+// 버려진 id가 쌓이면 한 번씩 살아 있는 id만 남기도록 다시 번호를 매긴다.
+public class IncrementalConnectivity {
+    private static final int CLOSED = -1;
+
+    private final int maxDir;
+    private final int H, W;
+    private final int[] offsets;
+    private final BitGrid open;
+    private final int[] comp;
+    private int[] parent;
+    private int[] size;
+    private int nextId;
+    private int componentCount;
+
+    // close에서 쓰는 임시 공간. stamp == opId인 칸이 이번 탐색에서 owner번 BFS가 차지한 칸이다.
+    private final int[] stamp;
+    private final int[] owner;
+    private final int[][] lists = new int[8][];
+    private final int[] heads = new int[8];
+    private final int[] tails = new int[8];
+    private final int[] groups = new int[8];
+    private final boolean[] finished = new boolean[8];
+    private int opId;
+    private int lastRecomputedCells;
+
+    public IncrementalConnectivity(Grid grid, int maxDir) {
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.H = grid.getHeight();
+        this.W = grid.getWidth();
+        this.offsets = Directions.offsets(W, maxDir);
+        this.open = new BitGrid(H, W);
+        this.stamp = new int[H * W];
+        this.owner = new int[H * W];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = new int[16];
+        }
+
+        // 처음 상태는 한 번에 라벨링해서 번호 l을 id l - 1로 쓴다.
+        ComponentLabels labels = new ComponentLabeler(grid, maxDir).label();
+        this.comp = labels.getLabels();
+        this.componentCount = labels.getCount();
+        this.nextId = componentCount;
+        this.parent = new int[Math.max(16, componentCount * 2)];
+        this.size = new int[parent.length];
+        int[] sizes = labels.getSizes();
+        for (int id = 0; id < componentCount; id++) {
+            parent[id] = id;
+            size[id] = sizes[id + 1];
+        }
+        for (int i = 0; i < comp.length; i++) {
+            if (comp[i] == ComponentLabels.BACKGROUND) {
+                comp[i] = CLOSED;
+            } else {
+                comp[i]--;
+                open.set(i);
+            }
+        }
+    }
+
+    // 이미 열려 있으면 false
+    public boolean open(int y, int x) {
+        int i = open.index(y, x);
+        if (!open.add(i)) {
+            return false;
+        }
+        int id = newId();
+        comp[i] = id;
+        componentCount++;
+
+        for (int d = 0; d < maxDir; d++) {
+            int nx = x + Directions.DX[d];
+            int ny = y + Directions.DY[d];
+            if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                int n = i + offsets[d];
+                if (comp[n] != CLOSED && union(id, comp[n])) {
+                    componentCount--;
+                }
+            }
+        }
+        lastRecomputedCells = 0;
+        return true;
+    }
+
+    // 이미 닫혀 있으면 false
+    public boolean close(int y, int x) {
+        int i = open.index(y, x);
+        if (!open.get(i)) {
+            return false;
+        }
+        // 쪼개지는 조각은 최대 maxDir - 1개다. 도중에 id를 다시 매기면 root가 바뀌므로 미리 자리를 만든다.
+        reserveIds(maxDir);
+        int root = find(comp[i]);
+        open.clear(i);
+        comp[i] = CLOSED;
+        size[root]--;
+        lastRecomputedCells = 0;
+
+        int k = 0;
+        for (int d = 0; d < maxDir; d++) {
+            int nx = x + Directions.DX[d];
+            int ny = y + Directions.DY[d];
+            if (nx >= 0 && nx < W && ny >= 0 && ny < H && comp[i + offsets[d]] != CLOSED) {
+                startSearch(k++, i + offsets[d]);
+            }
+        }
+        if (k == 0) {
+            componentCount--;
+            return true;
+        }
+        // 열린 이웃이 하나면 닫힌 칸을 지나는 경로가 있을 수 없으니 쪼개지지 않는다.
+        if (k > 1) {
+            split(root, k);
+        }
+        return true;
+    }
+
+    public boolean isOpen(int y, int x) {
+        return open.isOpen(y, x);
+    }
+
+    public boolean isConnected(int y1, int x1, int y2, int x2) {
+        int a = comp[open.index(y1, x1)];
+        int b = comp[open.index(y2, x2)];
+        return a != CLOSED && b != CLOSED && find(a) == find(b);
+    }
+
+    // 닫힌 칸이면 0
+    public int getComponentSize(int y, int x) {
+        int id = comp[open.index(y, x)];
+        return id == CLOSED ? 0 : size[find(id)];
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    // 마지막 close가 다시 살펴본 칸 수. 요소 전체가 아니라 닫힌 칸 주변만 봤는지 확인할 때 쓴다.
+    public int getLastRecomputedCells() {
+        return lastRecomputedCells;
+    }
+
+    private void startSearch(int s, int cell) {
+        if (s == 0 && ++opId == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            opId = 1;
+        }
+        stamp[cell] = opId;
+        owner[cell] = s;
+        lists[s][0] = cell;
+        heads[s] = 0;
+        tails[s] = 1;
+        groups[s] = s;
+        finished[s] = false;
+    }
+
+    // 이웃 k개에서 BFS를 번갈아 한 칸씩 진행한다. 각 BFS가 넣은 칸은 lists[s]에 그대로 남겨 두었다가
+    // 떨어져 나간 조각의 칸들에 새 id를 줄 때 쓴다.
+    private void split(int root, int k) {
+        int active = k;
+        int touched = k;
+        while (active > 1) {
+            for (int s = 0; s < k && active > 1; s++) {
+                int g = group(s);
+                if (finished[g] || heads[s] == tails[s]) {
+                    continue;
+                }
+                int cur = lists[s][heads[s]++];
+                int cy = cur / W;
+                int cx = cur - cy * W;
+                for (int d = 0; d < maxDir; d++) {
+                    int nx = cx + Directions.DX[d];
+                    int ny = cy + Directions.DY[d];
+                    if (nx < 0 || nx >= W || ny < 0 || ny >= H) {
+                        continue;
+                    }
+                    int n = cur + offsets[d];
+                    if (comp[n] == CLOSED) {
+                        continue;
+                    }
+                    if (stamp[n] != opId) {
+                        stamp[n] = opId;
+                        owner[n] = s;
+                        append(s, n);
+                        touched++;
+                    } else {
+                        int other = group(owner[n]);
+                        g = group(s);
+                        if (other != g) {
+                            groups[other] = g;
+                            active--;
+                        }
+                    }
+                }
+                if (active > 1 && isExhausted(group(s), k)) {
+                    detach(root, group(s), k);
+                    active--;
+                }
+            }
+        }
+        lastRecomputedCells = touched;
+    }
+
+    private boolean isExhausted(int g, int k) {
+        for (int s = 0; s < k; s++) {
+            if (heads[s] != tails[s] && group(s) == g) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void detach(int root, int g, int k) {
+        int id = newId();
+        int pieceSize = 0;
+        for (int s = 0; s < k; s++) {
+            if (group(s) == g) {
+                int[] list = lists[s];
+                for (int j = 0; j < tails[s]; j++) {
+                    comp[list[j]] = id;
+                }
+                pieceSize += tails[s];
+            }
+        }
+        finished[g] = true;
+        size[id] = pieceSize;
+        size[root] -= pieceSize;
+        componentCount++;
+    }
+
+    private int group(int s) {
+        while (groups[s] != s) {
+            s = groups[s];
+        }
+        return s;
+    }
+
+    private void append(int s, int cell) {
+        if (tails[s] == lists[s].length) {
+            lists[s] = Arrays.copyOf(lists[s], tails[s] << 1);
+        }
+        lists[s][tails[s]++] = cell;
+    }
+
+    private int newId() {
+        reserveIds(1);
+        int id = nextId++;
+        parent[id] = id;
+        size[id] = 1;
+        return id;
+    }
+
+    private void reserveIds(int count) {
+        if (nextId + count <= parent.length) {
+            return;
+        }
+        // 살아 있는 id는 요소 수와 같다. compact는 모든 칸을 훑으므로(O(HW)) 버려진 id가
+        // 살아 있는 id 수와 격자의 1/4 중 큰 값 이상 쌓였을 때만 한다. 그 전에는 배열을 늘린다.
+        // 그래서 compact 한 번의 비용은 그동안 만든 Θ(HW)개의 id에 나눠진다.
+        int dead = nextId - componentCount;
+        if (dead >= Math.max(componentCount, Math.max(16, comp.length / 4))) {
+            compact();
+        }
+        while (nextId + count > parent.length) {
+            parent = Arrays.copyOf(parent, parent.length << 1);
+            size = Arrays.copyOf(size, size.length << 1);
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[nextId];
+        Arrays.fill(remap, -1);
+        int[] compactSize = new int[size.length];
+        int live = 0;
+        for (int i = 0; i < comp.length; i++) {
+            if (comp[i] == CLOSED) {
+                continue;
+            }
+            int r = find(comp[i]);
+            if (remap[r] < 0) {
+                remap[r] = live;
+                compactSize[live++] = size[r];
+            }
+            comp[i] = remap[r];
+        }
+        for (int id = 0; id < live; id++) {
+            parent[id] = id;
+        }
+        size = compactSize;
+        nextId = live;
+    }
+
+    private int find(int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+
+    private boolean union(int a, int b) {
+        a = find(a);
+        b = find(b);
+        if (a == b) {
+            return false;
+        }
+        if (size[a] < size[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        parent[b] = a;
+        size[a] += size[b];
+        return true;
+    }
+}
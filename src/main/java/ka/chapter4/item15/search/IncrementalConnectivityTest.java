@@ -0,0 +1,189 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalConnectivityTest {
+    @Test
+    @DisplayName("칸을 열고 닫을 때마다 전체 라벨링 결과와 같다")
+    void sameAsRelabeling() {
+        Random random = new Random(46);
+        for (int maxDir : new int[]{4, 8}) {
+            int[][] map = GridBfsTest.randomMap(random, 20, 25, 0.5);
+            IncrementalConnectivity connectivity = new IncrementalConnectivity(Grid.of(map), maxDir);
+            for (int step = 0; step < 3_000; step++) {
+                int y = random.nextInt(20), x = random.nextInt(25);
+                if (map[y][x] == 1) {
+                    assertThat(connectivity.close(y, x)).isTrue();
+                    map[y][x] = 0;
+                } else {
+                    assertThat(connectivity.open(y, x)).isTrue();
+                    map[y][x] = 1;
+                }
+                if (step % 10 == 0) {
+                    assertSameComponents(map, maxDir, connectivity);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("통로를 끊으면 작은 쪽만 다시 번호를 매긴다")
+    void splitRelabelsSmallerPiece() {
+        // 500x500 빈 땅 오른쪽 아래 구석에 길이 20짜리 통로로 이어진 작은 방
+        int[][] map = new int[500][500];
+        for (int y = 0; y < 400; y++) {
+            java.util.Arrays.fill(map[y], 0, 400, 1);
+        }
+        for (int x = 400; x < 420; x++) {
+            map[200][x] = 1;
+        }
+        for (int y = 195; y < 205; y++) {
+            java.util.Arrays.fill(map[y], 420, 430, 1);
+        }
+        IncrementalConnectivity connectivity = new IncrementalConnectivity(Grid.of(map), 4);
+        assertThat(connectivity.getComponentCount()).isEqualTo(1);
+        assertThat(connectivity.getComponentSize(0, 0)).isEqualTo(400 * 400 + 20 + 100);
+
+        connectivity.close(200, 410);
+        assertThat(connectivity.getComponentCount()).isEqualTo(2);
+        assertThat(connectivity.isConnected(0, 0, 200, 425)).isFalse();
+        assertThat(connectivity.getComponentSize(0, 0)).isEqualTo(400 * 400 + 10);
+        assertThat(connectivity.getComponentSize(200, 425)).isEqualTo(9 + 100);
+        assertThat(connectivity.getLastRecomputedCells()).isLessThan(1_000);
+
+        // 빈 땅 가운데 칸을 닫아도 이웃끼리 금방 다시 만나므로 주변만 본다.
+        connectivity.close(100, 100);
+        assertThat(connectivity.getComponentCount()).isEqualTo(2);
+        assertThat(connectivity.getLastRecomputedCells()).isLessThan(100);
+        assertThat(connectivity.getComponentSize(0, 0)).isEqualTo(400 * 400 + 9);
+
+        connectivity.open(200, 410);
+        assertThat(connectivity.isConnected(0, 0, 200, 425)).isTrue();
+        assertThat(connectivity.getComponentCount()).isEqualTo(1);
+        assertThat(connectivity.getComponentSize(399, 399)).isEqualTo(400 * 400 + 19 + 100);
+    }
+
+    @Test
+    @DisplayName("이미 열린 칸을 열거나 닫힌 칸을 닫으면 false")
+    void noChange() {
+        int[][] map = {
+                {1, 0, 1}
+        };
+        IncrementalConnectivity connectivity = new IncrementalConnectivity(Grid.of(map), 4);
+        assertThat(connectivity.getComponentCount()).isEqualTo(2);
+        assertThat(connectivity.open(0, 0)).isFalse();
+        assertThat(connectivity.close(0, 1)).isFalse();
+        assertThat(connectivity.getComponentSize(0, 1)).isEqualTo(0);
+        assertThat(connectivity.isConnected(0, 0, 0, 1)).isFalse();
+
+        assertThat(connectivity.open(0, 1)).isTrue();
+        assertThat(connectivity.getComponentCount()).isEqualTo(1);
+        assertThat(connectivity.getComponentSize(0, 2)).isEqualTo(3);
+        assertThat(connectivity.close(0, 0)).isTrue();
+        assertThat(connectivity.close(0, 1)).isTrue();
+        assertThat(connectivity.close(0, 2)).isTrue();
+        assertThat(connectivity.getComponentCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("변경과 질의를 섞은 흐름을 매번 BFS하는 것과 비교")
+    void updateStreamBenchmark() {
+        int size = 1_000;
+        Random random = new Random(46);
+        int[][] map = GridBfsTest.randomMap(random, size, size, 0.62);
+        IncrementalConnectivity connectivity = new IncrementalConnectivity(Grid.of(map), 4);
+
+        int updates = 200_000;
+        long startTime = System.nanoTime();
+        int connected = 0;
+        for (int step = 0; step < updates; step++) {
+            int y = random.nextInt(size), x = random.nextInt(size);
+            if (connectivity.isOpen(y, x)) {
+                connectivity.close(y, x);
+            } else {
+                connectivity.open(y, x);
+            }
+            if (connectivity.isConnected(random.nextInt(size), random.nextInt(size), random.nextInt(size), random.nextInt(size))) {
+                connected++;
+            }
+        }
+        double incremental = (double) (System.nanoTime() - startTime) / updates;
+
+        // 같은 흐름을 질의마다 BFS로 답하면 몇 번만 재도 충분하다.
+        GridBfs bfs = new GridBfs(map, 4);
+        int rounds = 20;
+        startTime = System.nanoTime();
+        for (int step = 0; step < rounds; step++) {
+            bfs.search(random.nextInt(size), random.nextInt(size));
+            if (bfs.isVisited(random.nextInt(size), random.nextInt(size))) {
+                connected++;
+            }
+        }
+        double perQueryBfs = (double) (System.nanoTime() - startTime) / rounds;
+
+        System.out.println("incremental = " + incremental + "ns/update, BFS per query = " + perQueryBfs + "ns/query (" + connected + ")");
+        assertThat(incremental).isLessThan(perQueryBfs);
+    }
+
+    @Test
+    @DisplayName("요소가 하나뿐인 큰 격자에서도 갱신 비용이 격자 크기에 비례하지 않는다")
+    void singleComponentUpdateCost() {
+        int size = 1_000;
+        int[][] map = GridBfsTest.fullMap(size, size);
+        IncrementalConnectivity connectivity = new IncrementalConnectivity(Grid.of(map), 4);
+
+        // 이웃이 하나뿐인 모서리 칸을 여닫으면 매번 새 id를 쓴다. id를 정리할 때마다 전체 칸을 훑으면
+        // 갱신 한 번이 전체 라벨링 한 번에 가까운 비용이 된다.
+        int updates = 200_000;
+        long startTime = System.nanoTime();
+        for (int step = 0; step < updates; step++) {
+            connectivity.close(0, 0);
+            connectivity.open(0, 0);
+        }
+        double perUpdate = (double) (System.nanoTime() - startTime) / (2 * updates);
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            startTime = System.nanoTime();
+            new ComponentLabeler(Grid.of(map), 4).label();
+            best = Math.min(best, System.nanoTime() - startTime);
+        }
+
+        System.out.println("update = " + perUpdate + "ns, full relabel = " + best + "ns");
+        assertThat(connectivity.getComponentCount()).isEqualTo(1);
+        assertThat(connectivity.getComponentSize(size - 1, size - 1)).isEqualTo(size * size);
+        assertThat(perUpdate * 1_000).isLessThan((double) best);
+    }
+
+    private static void assertSameComponents(int[][] map, int maxDir, IncrementalConnectivity connectivity) {
+        ComponentLabels expected = new ComponentLabeler(Grid.of(map), maxDir).label();
+        assertThat(connectivity.getComponentCount()).isEqualTo(expected.getCount());
+        int H = map.length, W = map[0].length;
+        // 라벨 번호는 행 우선으로 처음 나오는 순서라, 각 요소의 첫 칸과 연결되어 있는지로 비교한다.
+        int[] firstCell = new int[expected.getCount() + 1];
+        java.util.Arrays.fill(firstCell, -1);
+        for (int y = 0; y < H; y++) {
+            for (int x = 0; x < W; x++) {
+                int label = expected.getLabel(y, x);
+                assertThat(connectivity.isOpen(y, x)).isEqualTo(label != 0);
+                if (label == 0) {
+                    assertThat(connectivity.getComponentSize(y, x)).isEqualTo(0);
+                    continue;
+                }
+                if (firstCell[label] < 0) {
+                    firstCell[label] = y * W + x;
+                    for (int other = 1; other < label; other++) {
+                        assertThat(connectivity.isConnected(y, x, firstCell[other] / W, firstCell[other] % W)).isFalse();
+                    }
+                }
+                assertThat(connectivity.isConnected(y, x, firstCell[label] / W, firstCell[label] % W)).isTrue();
+                assertThat(connectivity.getComponentSize(y, x)).isEqualTo(expected.getSize(label));
+            }
+        }
+    }
+}
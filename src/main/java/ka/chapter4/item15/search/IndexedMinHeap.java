@@ -0,0 +1,105 @@
+package ka.chapter4.item15.search;
+
+import java.util.Arrays;
+
+// 칸 번호를 원소로 갖는 이진 최소 힙. 박싱 없이 int[]와 double[]만 쓴다.
+// position[칸 번호]로 힙 안의 위치를 알고 있어서 키를 줄이는 연산이 O(log n)이다.
+final class IndexedMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] position;
+    private int[] heap;
+    private double[] keys;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.position = new int[capacity];
+        this.heap = new int[16];
+        this.keys = new double[16];
+        Arrays.fill(position, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int element) {
+        return position[element] != ABSENT;
+    }
+
+    // 없으면 넣고, 있으면 키가 더 작을 때만 줄인다.
+    void offer(int element, double key) {
+        int at = position[element];
+        if (at == ABSENT) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size << 1);
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+            siftUp(size++, element, key);
+        } else if (key < keys[at]) {
+            siftUp(at, element, key);
+        }
+    }
+
+    double peekKey() {
+        return keys[0];
+    }
+
+    int poll() {
+        int min = heap[0];
+        position[min] = ABSENT;
+        int last = heap[--size];
+        double lastKey = keys[size];
+        if (size > 0) {
+            siftDown(0, last, lastKey);
+        }
+        return min;
+    }
+
+    // 힙에 남은 원소만 지우므로 전체 칸 수가 아니라 남은 원소 수에 비례한다.
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int at, int element, double key) {
+        while (at > 0) {
+            int parent = (at - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(at, heap[parent], keys[parent]);
+            at = parent;
+        }
+        place(at, element, key);
+    }
+
+    private void siftDown(int at, int element, double key) {
+        int half = size >>> 1;
+        while (at < half) {
+            int child = 2 * at + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(at, heap[child], keys[child]);
+            at = child;
+        }
+        place(at, element, key);
+    }
+
+    private void place(int at, int element, double key) {
+        heap[at] = element;
+        keys[at] = key;
+        position[element] = at;
+    }
+}
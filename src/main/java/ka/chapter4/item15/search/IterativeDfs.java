@@ -0,0 +1,126 @@
+package ka.chapter4.item15.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// 재귀 없이 recursionDfs와 같은 순서로 방문하는 DFS.
+// 스택 한 칸에 칸 번호(y * W + x)와 다음에 볼 방향(cursor)을 함께 두고,
+// 이웃 하나를 찾으면 현재 칸의 cursor만 저장한 채 그 이웃으로 내려간다.
+// 그래서 스택 깊이가 재귀 깊이와 같고, 모든 이웃을 확인한 칸에서 후위 콜백을 부를 수 있다.
+// 스택은 힙 배열이라 스레드 스택 크기와 상관없이 수백만 칸짜리 영역도 탐색한다.
+public class IterativeDfs {
+    private static final IntConsumer NONE = index -> {
+    };
+
+    private final Grid grid;
+    private final BitGrid visited;
+    private final int maxDir;
+    private final int H, W;
+    private final int[] offsets;
+    private int[] cells;
+    private byte[] cursors;
+    private int maxDepth;
+
+    public IterativeDfs(int[][] map, int maxDir) {
+        this(Grid.of(map), maxDir);
+    }
+
+    public IterativeDfs(Grid grid, int maxDir) {
+        this.grid = grid;
+        this.maxDir = Directions.checkMaxDir(maxDir);
+        this.H = grid.getHeight();
+        this.W = grid.getWidth();
+        this.visited = new BitGrid(H, W);
+        this.offsets = Directions.offsets(W, maxDir);
+        this.cells = new int[64];
+        this.cursors = new byte[64];
+    }
+
+    public int search(int y, int x) {
+        return search(y, x, NONE, NONE);
+    }
+
+    // 콜백은 칸 번호를 받는다. y(index), x(index)로 좌표를 꺼낸다.
+    // recursionDfs처럼 시작 칸은 map 값과 상관없이 방문하고, 방문 집합은 탐색을 거듭해도 누적된다.
+    // 반환값은 이번 탐색에서 새로 방문한 칸 수
+    public int search(int y, int x, IntConsumer preOrder, IntConsumer postOrder) {
+        int start = visited.index(y, x);
+        if (!visited.add(start)) {
+            return 0;
+        }
+        preOrder.accept(start);
+
+        int[] cells = this.cells;
+        byte[] cursors = this.cursors;
+        int top = 0;
+        cells[top] = start;
+        cursors[top++] = 0;
+        int count = 1;
+        int maxDepth = 1;
+
+        while (top > 0) {
+            int cur = cells[top - 1];
+            int cy = cur / W;
+            int cx = cur - cy * W;
+
+            int next = -1;
+            int dir = cursors[top - 1];
+            while (dir < maxDir) {
+                int i = dir++;
+                int nx = cx + Directions.DX[i];
+                int ny = cy + Directions.DY[i];
+
+                if (nx >= 0 && nx < W && ny >= 0 && ny < H) {
+                    int n = cur + offsets[i];
+                    if (grid.isOpen(ny, nx) && visited.add(n)) {
+                        next = n;
+                        break;
+                    }
+                }
+            }
+
+            if (next < 0) {
+                top--;
+                postOrder.accept(cur);
+                continue;
+            }
+
+            cursors[top - 1] = (byte) dir;
+            if (top == cells.length) {
+                cells = Arrays.copyOf(cells, top << 1);
+                cursors = Arrays.copyOf(cursors, top << 1);
+            }
+            cells[top] = next;
+            cursors[top++] = 0;
+            maxDepth = Math.max(maxDepth, top);
+            count++;
+            preOrder.accept(next);
+        }
+
+        this.cells = cells;
+        this.cursors = cursors;
+        this.maxDepth = Math.max(this.maxDepth, maxDepth);
+        return count;
+    }
+
+    public int y(int index) {
+        return index / W;
+    }
+
+    public int x(int index) {
+        return index % W;
+    }
+
+    public boolean isVisited(int y, int x) {
+        return visited.isOpen(y, x);
+    }
+
+    public void clearVisited() {
+        visited.clearAll();
+    }
+
+    // 지금까지의 탐색 중 가장 깊었던 스택 깊이. 같은 탐색을 재귀로 했다면 필요했을 호출 깊이다.
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
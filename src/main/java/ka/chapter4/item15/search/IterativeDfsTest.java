@@ -0,0 +1,116 @@
+package ka.chapter4.item15.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IterativeDfsTest {
+    @Test
+    @DisplayName("재귀 DFS와 전위, 후위 순서가 같다")
+    void sameOrderAsRecursion() {
+        Random random = new Random(44);
+        for (int maxDir : new int[]{4, 8}) {
+            for (int round = 0; round < 10; round++) {
+                int[][] map = GridBfsTest.randomMap(random, 25, 25, 0.6);
+                List<Integer> expectedPre = new ArrayList<>();
+                List<Integer> expectedPost = new ArrayList<>();
+                recursion(map, maxDir, new boolean[25][25], 0, 0, expectedPre, expectedPost);
+
+                List<Integer> pre = new ArrayList<>();
+                List<Integer> post = new ArrayList<>();
+                IterativeDfs dfs = new IterativeDfs(map, maxDir);
+                assertThat(dfs.search(0, 0, pre::add, post::add)).isEqualTo(expectedPre.size());
+                assertThat(pre).isEqualTo(expectedPre);
+                assertThat(post).isEqualTo(expectedPost);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("recursionDfs, stackDfs와 같은 칸을 방문한다")
+    void sameVisitedCellsAsLegacy() {
+        int[][] map = GridBfsTest.randomMap(new Random(44), 40, 40, 0.6);
+        DepthFirstSearch recursion = new DepthFirstSearch(map, 8);
+        DepthFirstSearch stack = new DepthFirstSearch(map, 8);
+        IterativeDfs dfs = new IterativeDfs(map, 8);
+        recursion.recursionDfs(5, 5);
+        stack.stackDfs(5, 5);
+        dfs.search(5, 5);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                assertThat(dfs.isVisited(y, x)).isEqualTo(recursion.isVisited(y, x));
+                assertThat(dfs.isVisited(y, x)).isEqualTo(stack.isVisited(y, x));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("백만 칸짜리 영역도 스택 오버플로 없이 탐색한다")
+    void millionCells() throws InterruptedException {
+        int[][] map = GridBfsTest.fullMap(1_000, 1_000);
+        IterativeDfs dfs = new IterativeDfs(map, 4);
+        int[] exited = new int[1];
+        int[] last = new int[1];
+        int[] visited = new int[1];
+        Throwable[] recursionError = new Throwable[1];
+
+        // 재귀 DFS가 넘치는지는 스레드 스택 크기에 달렸으므로, 스택을 작게 지정한 스레드에서 두 구현을 함께 돌린다.
+        Thread thread = new Thread(null, () -> {
+            try {
+                new DepthFirstSearch(map, 4).recursionDfs(0, 0);
+            } catch (StackOverflowError e) {
+                recursionError[0] = e;
+            }
+            visited[0] = dfs.search(0, 0, index -> {
+            }, index -> {
+                exited[0]++;
+                last[0] = index;
+            });
+        }, "small-stack-dfs", 256 * 1024);
+        thread.start();
+        thread.join();
+
+        assertThat(recursionError[0]).isInstanceOf(StackOverflowError.class);
+        assertThat(visited[0]).isEqualTo(1_000_000);
+        assertThat(exited[0]).isEqualTo(1_000_000);
+        assertThat(last[0]).isEqualTo(0);
+        assertThat(dfs.getMaxDepth()).isEqualTo(1_000_000);
+        System.out.println("max depth = " + dfs.getMaxDepth());
+    }
+
+    @Test
+    @DisplayName("방문 집합은 탐색을 거듭해도 누적된다")
+    void visitedAccumulates() {
+        int[][] map = {
+                {1, 1, 0, 1}
+        };
+        IterativeDfs dfs = new IterativeDfs(map, 4);
+        assertThat(dfs.search(0, 1)).isEqualTo(2);
+        assertThat(dfs.search(0, 0)).isEqualTo(0);
+        assertThat(dfs.search(0, 3)).isEqualTo(1);
+        dfs.clearVisited();
+        assertThat(dfs.search(0, 0)).isEqualTo(2);
+        assertThat(dfs.y(3)).isEqualTo(0);
+        assertThat(dfs.x(3)).isEqualTo(3);
+    }
+
+    private static void recursion(int[][] map, int maxDir, boolean[][] visited, int y, int x,
+                                  List<Integer> pre, List<Integer> post) {
+        int W = map[0].length;
+        visited[y][x] = true;
+        pre.add(y * W + x);
+        for (int i = 0; i < maxDir; i++) {
+            int nx = x + Directions.DX[i];
+            int ny = y + Directions.DY[i];
+            if (nx >= 0 && nx < W && ny >= 0 && ny < map.length && !visited[ny][nx] && map[ny][nx] == 1) {
+                recursion(map, maxDir, visited, ny, nx, pre, post);
+            }
+        }
+        post.add(y * W + x);
+    }
+}
@@ -0,0 +1,195 @@
+package ka.chapter4.item17.complex;
+
+import java.util.Arrays;
+
+// Complex 여러 개를 실수부 배열과 허수부 배열 두 개로 나눠 담는 가변 배열.
+// Complex는 불변이라 연산마다 객체를 만들지만, 이 클래스의 일괄 연산은 배열만 읽고 쓴다.
+// 반복문은 같은 길이의 배열을 인덱스로 훑는 단순한 모양이라 JIT가 SIMD로 벡터화할 수 있다.
+// 연산 결과는 같은 원소끼리 Complex로 계산한 값과 비트 단위로 같다.
+public final class ComplexArray {
+    private final double[] re;
+    private final double[] im;
+
+    public ComplexArray(int length) {
+        this(new double[length], new double[length]);
+    }
+
+    private ComplexArray(double[] re, double[] im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    public static ComplexArray of(Complex... values) {
+        ComplexArray array = new ComplexArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.re[i] = values[i].realPart();
+            array.im[i] = values[i].imaginaryPart();
+        }
+        return array;
+    }
+
+    // 배열을 복사하지 않고 그대로 쓴다.
+    public static ComplexArray wrap(double[] re, double[] im) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("length mismatch: " + re.length + " != " + im.length);
+        }
+        return new ComplexArray(re, im);
+    }
+
+    public int length() {
+        return re.length;
+    }
+
+    public Complex get(int i) {
+        return new Complex(re[i], im[i]);
+    }
+
+    public double realPart(int i) {
+        return re[i];
+    }
+
+    public double imaginaryPart(int i) {
+        return im[i];
+    }
+
+    public void set(int i, Complex c) {
+        re[i] = c.realPart();
+        im[i] = c.imaginaryPart();
+    }
+
+    public void set(int i, double re, double im) {
+        this.re[i] = re;
+        this.im[i] = im;
+    }
+
+    public Complex[] toArray() {
+        Complex[] values = new Complex[re.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new Complex(re[i], im[i]);
+        }
+        return values;
+    }
+
+    public ComplexArray copy() {
+        return new ComplexArray(re.clone(), im.clone());
+    }
+
+    // 내부 배열을 그대로 돌려준다. 다른 수치 코드에 넘길 때 쓴다.
+    public double[] realParts() {
+        return re;
+    }
+
+    public double[] imaginaryParts() {
+        return im;
+    }
+
+    // 세 가지 형태로 제공한다.
+    // plus(c): 새 배열에 결과를 담아 돌려준다.
+    // plus(c, out): out에 결과를 담아 돌려준다. out이 this나 c여도 된다.
+    // plusInPlace(c): this에 결과를 담는다.
+    public ComplexArray plus(ComplexArray c) {
+        return plus(c, new ComplexArray(length()));
+    }
+
+    public ComplexArray plus(ComplexArray c, ComplexArray out) {
+        int n = checkLength(c, out);
+        double[] ar = re, ai = im, br = c.re, bi = c.im, or = out.re, oi = out.im;
+        for (int i = 0; i < n; i++) {
+            or[i] = ar[i] + br[i];
+            oi[i] = ai[i] + bi[i];
+        }
+        return out;
+    }
+
+    public ComplexArray plusInPlace(ComplexArray c) {
+        return plus(c, this);
+    }
+
+    public ComplexArray minus(ComplexArray c) {
+        return minus(c, new ComplexArray(length()));
+    }
+
+    public ComplexArray minus(ComplexArray c, ComplexArray out) {
+        int n = checkLength(c, out);
+        double[] ar = re, ai = im, br = c.re, bi = c.im, or = out.re, oi = out.im;
+        for (int i = 0; i < n; i++) {
+            or[i] = ar[i] - br[i];
+            oi[i] = ai[i] - bi[i];
+        }
+        return out;
+    }
+
+    public ComplexArray minusInPlace(ComplexArray c) {
+        return minus(c, this);
+    }
+
+    public ComplexArray times(ComplexArray c) {
+        return times(c, new ComplexArray(length()));
+    }
+
+    public ComplexArray times(ComplexArray c, ComplexArray out) {
+        int n = checkLength(c, out);
+        double[] ar = re, ai = im, br = c.re, bi = c.im, or = out.re, oi = out.im;
+        for (int i = 0; i < n; i++) {
+            // out이 입력과 같은 배열일 수 있으므로 둘 다 계산한 뒤에 쓴다.
+            double r = ar[i] * br[i] - ai[i] * bi[i];
+            double m = ar[i] * bi[i] + ai[i] * br[i];
+            or[i] = r;
+            oi[i] = m;
+        }
+        return out;
+    }
+
+    public ComplexArray timesInPlace(ComplexArray c) {
+        return times(c, this);
+    }
+
+    public ComplexArray dividedBy(ComplexArray c) {
+        return dividedBy(c, new ComplexArray(length()));
+    }
+
+    public ComplexArray dividedBy(ComplexArray c, ComplexArray out) {
+        int n = checkLength(c, out);
+        double[] ar = re, ai = im, br = c.re, bi = c.im, or = out.re, oi = out.im;
+        for (int i = 0; i < n; i++) {
+            double tmp = br[i] * br[i] + bi[i] * bi[i];
+            double r = (ar[i] * br[i] + ai[i] * bi[i]) / tmp;
+            double m = (ai[i] * br[i] - ar[i] * bi[i]) / tmp;
+            or[i] = r;
+            oi[i] = m;
+        }
+        return out;
+    }
+
+    public ComplexArray dividedByInPlace(ComplexArray c) {
+        return dividedBy(c, this);
+    }
+
+    private int checkLength(ComplexArray c, ComplexArray out) {
+        int n = re.length;
+        if (c.re.length != n || out.re.length != n) {
+            throw new IllegalArgumentException("length mismatch: " + n + ", " + c.re.length + ", " + out.re.length);
+        }
+        return n;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ComplexArray c)) return false;
+
+        return Arrays.equals(re, c.re) && Arrays.equals(im, c.im);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(re) + Arrays.hashCode(im);
+    }
+
+    @Override
+    public String toString() {
+        return "ComplexArray{" +
+                "length=" + re.length +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package ka.chapter4.item17.complex;
+
+import ka.chapter4.ThreadAllocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ComplexArrayTest {
+
+    @Nested
+    class Arithmetic {
+
+        @Test
+        @DisplayName("원소마다 Complex로 계산한 결과와 같다.")
+        void sameAsComplex() {
+            Complex[] a = random(new Random(47), 1_000);
+            Complex[] b = random(new Random(48), 1_000);
+            ComplexArray x = ComplexArray.of(a);
+            ComplexArray y = ComplexArray.of(b);
+
+            ComplexArray plus = x.plus(y);
+            ComplexArray minus = x.minus(y);
+            ComplexArray times = x.times(y);
+            ComplexArray dividedBy = x.dividedBy(y);
+            for (int i = 0; i < a.length; i++) {
+                assertThat(plus.get(i)).isEqualTo(a[i].plus(b[i]));
+                assertThat(minus.get(i)).isEqualTo(a[i].minus(b[i]));
+                assertThat(times.get(i)).isEqualTo(a[i].times(b[i]));
+                assertThat(dividedBy.get(i)).isEqualTo(a[i].dividedBy(b[i]));
+            }
+        }
+
+        @Test
+        @DisplayName("제자리 연산은 자기 자신을 바꾸고, 결과 배열로 입력을 넘겨도 된다.")
+        void inPlace() {
+            Complex[] a = random(new Random(47), 100);
+            Complex[] b = random(new Random(48), 100);
+            ComplexArray x = ComplexArray.of(a);
+            ComplexArray y = ComplexArray.of(b);
+
+            assertThat(x.timesInPlace(y)).isSameAs(x);
+            x.dividedByInPlace(y).plusInPlace(y).minusInPlace(y);
+            y.times(y, y);
+            for (int i = 0; i < a.length; i++) {
+                assertThat(x.get(i)).isEqualTo(a[i].times(b[i]).dividedBy(b[i]).plus(b[i]).minus(b[i]));
+                assertThat(y.get(i)).isEqualTo(b[i].times(b[i]));
+            }
+        }
+
+        @Test
+        @DisplayName("길이가 다르면 예외가 발생한다.")
+        void lengthMismatch() {
+            ComplexArray x = new ComplexArray(3);
+            assertThrows(IllegalArgumentException.class, () -> x.plus(new ComplexArray(2)));
+            assertThrows(IllegalArgumentException.class, () -> x.times(x, new ComplexArray(4)));
+            assertThrows(IllegalArgumentException.class, () -> ComplexArray.wrap(new double[1], new double[2]));
+        }
+    }
+
+    @Nested
+    class Conversion {
+
+        @Test
+        @DisplayName("Complex 배열로 바꿨다가 되돌려도 같다.")
+        void roundTrip() {
+            Complex[] values = {Complex.ZERO, Complex.ONE, Complex.I, new Complex(-1.5, 2.5)};
+            ComplexArray array = ComplexArray.of(values);
+
+            assertThat(array.length()).isEqualTo(4);
+            assertThat(ComplexArray.of(array.toArray())).isEqualTo(array);
+            assertThat(array.get(3)).isEqualTo(new Complex(-1.5, 2.5));
+            assertThat(array.realPart(3)).isEqualTo(-1.5);
+            assertThat(array.imaginaryPart(3)).isEqualTo(2.5);
+
+            ComplexArray copy = array.copy();
+            copy.set(0, Complex.I);
+            assertThat(array.get(0)).isEqualTo(Complex.ZERO);
+            assertThat(copy.get(0)).isEqualTo(Complex.I);
+        }
+
+        @Test
+        @DisplayName("wrap은 배열을 복사하지 않는다.")
+        void wrap() {
+            double[] re = {1, 2};
+            double[] im = {3, 4};
+            ComplexArray array = ComplexArray.wrap(re, im);
+            array.set(1, 5, 6);
+
+            assertThat(re[1]).isEqualTo(5.0);
+            assertThat(array.realParts()).isSameAs(re);
+            assertThat(array.imaginaryParts()).isSameAs(im);
+        }
+    }
+
+    @Nested
+    class Benchmark {
+        private static final int SIZE = 1 << 20;
+        private static final int ROUNDS = 10;
+
+        // a * b + c를 백만 개씩 계산한다. Complex[]는 원소마다 객체를 두 개 만든다.
+        @Test
+        @DisplayName("Complex[] 반복문보다 빠르고 할당이 없다.")
+        void complexArrayBenchmark() {
+            Complex[] a = random(new Random(47), SIZE);
+            Complex[] b = random(new Random(48), SIZE);
+            Complex[] c = random(new Random(49), SIZE);
+            Complex[] out = new Complex[SIZE];
+            ComplexArray x = ComplexArray.of(a);
+            ComplexArray y = ComplexArray.of(b);
+            ComplexArray z = ComplexArray.of(c);
+            ComplexArray result = new ComplexArray(SIZE);
+
+            long objectTime = Long.MAX_VALUE, arrayTime = Long.MAX_VALUE;
+            long objectBytes = Long.MAX_VALUE, arrayBytes = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                long startBytes = ThreadAllocation.allocatedBytes();
+                long startTime = System.nanoTime();
+                for (int i = 0; i < SIZE; i++) {
+                    out[i] = a[i].times(b[i]).plus(c[i]);
+                }
+                objectTime = Math.min(objectTime, System.nanoTime() - startTime);
+                objectBytes = Math.min(objectBytes, ThreadAllocation.allocatedBytes() - startBytes);
+
+                startBytes = ThreadAllocation.allocatedBytes();
+                startTime = System.nanoTime();
+                x.times(y, result).plusInPlace(z);
+                arrayTime = Math.min(arrayTime, System.nanoTime() - startTime);
+                arrayBytes = Math.min(arrayBytes, ThreadAllocation.allocatedBytes() - startBytes);
+            }
+
+            for (int i = 0; i < SIZE; i += 997) {
+                assertThat(result.get(i)).isEqualTo(out[i]);
+            }
+            System.out.println("Complex[] = " + objectTime / 1_000_000.0 + "ms, " + objectBytes + "B");
+            System.out.println("ComplexArray = " + arrayTime / 1_000_000.0 + "ms, " + arrayBytes + "B");
+            assertThat(arrayTime).isLessThan(objectTime);
+            ThreadAllocation.assumeSupported();
+            assertThat(arrayBytes).isLessThan(objectBytes);
+        }
+    }
+
+    private static Complex[] random(Random random, int size) {
+        Complex[] values = new Complex[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new Complex(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,295 @@
+package ka.chapter4.item17.complex;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 크기별로 한 번만 만들어 재사용하는 FFT.
+// 2의 거듭제곱 크기는 반복형 radix-2로, 그 밖의 크기는 Bluestein 방식으로 2의 거듭제곱 크기 합성곱으로 바꿔 계산한다.
+// 회전 인자(twiddle) 표, 비트 뒤집기 순서, Bluestein의 chirp 표는 Fft.of(n)이 크기마다 캐시한다.
+// 2의 거듭제곱 크기는 많아야 31가지라 모두 남겨 두고, Bluestein 크기는 최근에 쓴 것만 몇 개 남긴다.
+// 안쪽에서는 ComplexArray의 실수부, 허수부 배열만 다루고 Complex 객체는 입출력 경계에서만 만든다.
+public final class Fft {
+    // 이보다 작은 변환은 병렬 모드로 불러도 나눠 봐야 손해라 순차로 처리한다.
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int PARALLEL_CHUNK = 1 << 12;
+
+    static final int BLUESTEIN_CACHE_SIZE = 16;
+
+    private static final ConcurrentHashMap<Integer, Fft> RADIX2_CACHE = new ConcurrentHashMap<>();
+    // Bluestein 엔진은 크기 m의 필터와 안쪽 엔진을 들고 있어 무겁다. 접근 순서로 오래 안 쓴 크기부터 버린다.
+    private static final RecentlyUsed BLUESTEIN_CACHE = new RecentlyUsed(BLUESTEIN_CACHE_SIZE);
+
+    private final int n;
+    // radix-2: cos, sin은 2πk/n (k < n/2), reversed는 비트 뒤집기 순서
+    private final double[] cos;
+    private final double[] sin;
+    private final int[] reversed;
+    // Bluestein: chirp는 e^(-πik²/n), filter는 켤레 chirp를 크기 m으로 감아 둔 뒤 미리 변환한 값
+    private final Fft inner;
+    private final double[] chirpRe;
+    private final double[] chirpIm;
+    private final ComplexArray filter;
+
+    private Fft(int n) {
+        this.n = n;
+        if (Integer.bitCount(n) == 1) {
+            int half = n / 2;
+            this.cos = new double[half];
+            this.sin = new double[half];
+            for (int k = 0; k < half; k++) {
+                double angle = 2 * Math.PI * k / n;
+                cos[k] = Math.cos(angle);
+                sin[k] = Math.sin(angle);
+            }
+            this.reversed = new int[n];
+            int bits = Integer.numberOfTrailingZeros(n);
+            for (int i = 0; i < n; i++) {
+                reversed[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+            }
+            this.inner = null;
+            this.chirpRe = null;
+            this.chirpIm = null;
+            this.filter = null;
+            return;
+        }
+
+        this.cos = null;
+        this.sin = null;
+        this.reversed = null;
+        int m = Integer.highestOneBit(2 * n - 1) << 1;
+        this.inner = of(m);
+        this.chirpRe = new double[n];
+        this.chirpIm = new double[n];
+        ComplexArray filter = new ComplexArray(m);
+        for (int k = 0; k < n; k++) {
+            // k²이 커지면 각도의 정밀도가 떨어지므로 주기 2n으로 줄인 뒤 계산한다.
+            double angle = Math.PI * ((long) k * k % (2L * n)) / n;
+            chirpRe[k] = Math.cos(angle);
+            chirpIm[k] = -Math.sin(angle);
+            filter.set(k, chirpRe[k], -chirpIm[k]);
+            if (k > 0) {
+                filter.set(m - k, chirpRe[k], -chirpIm[k]);
+            }
+        }
+        inner.transform(filter);
+        this.filter = filter;
+    }
+
+    public static Fft of(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("size must be positive: " + n);
+        }
+        if (Integer.bitCount(n) == 1) {
+            return RADIX2_CACHE.computeIfAbsent(n, Fft::new);
+        }
+        Fft fft;
+        synchronized (BLUESTEIN_CACHE) {
+            fft = BLUESTEIN_CACHE.get(n);
+        }
+        if (fft == null) {
+            // 생성이 오래 걸리므로 잠금 밖에서 만든다. 동시에 만들었으면 먼저 넣은 것을 쓴다.
+            Fft created = new Fft(n);
+            synchronized (BLUESTEIN_CACHE) {
+                fft = BLUESTEIN_CACHE.putIfAbsent(n, created);
+            }
+            if (fft == null) {
+                fft = created;
+            }
+        }
+        return fft;
+    }
+
+    // 테스트용: 지금 캐시에 남아 있는 Bluestein 엔진 수
+    static int cachedBluesteinCount() {
+        synchronized (BLUESTEIN_CACHE) {
+            return BLUESTEIN_CACHE.size();
+        }
+    }
+
+    public static Complex[] forward(Complex[] x) {
+        return of(x.length).transform(x);
+    }
+
+    public static Complex[] backward(Complex[] x) {
+        return of(x.length).inverse(x);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public Complex[] transform(Complex[] x) {
+        ComplexArray data = ComplexArray.of(checkLength(x));
+        transform(data);
+        return data.toArray();
+    }
+
+    public Complex[] transform(Complex[] x, ForkJoinPool pool) {
+        ComplexArray data = ComplexArray.of(checkLength(x));
+        transform(data, pool);
+        return data.toArray();
+    }
+
+    public Complex[] inverse(Complex[] x) {
+        ComplexArray data = ComplexArray.of(checkLength(x));
+        inverse(data);
+        return data.toArray();
+    }
+
+    public Complex[] inverse(Complex[] x, ForkJoinPool pool) {
+        ComplexArray data = ComplexArray.of(checkLength(x));
+        inverse(data, pool);
+        return data.toArray();
+    }
+
+    // 제자리 변환
+    public void transform(ComplexArray data) {
+        transform(data, null);
+    }
+
+    public void transform(ComplexArray data, ForkJoinPool pool) {
+        checkLength(data);
+        run(data.realParts(), data.imaginaryParts(), n >= PARALLEL_THRESHOLD ? pool : null);
+    }
+
+    public void inverse(ComplexArray data) {
+        inverse(data, null);
+    }
+
+    // 실수부와 허수부를 맞바꾸면 켤레에 i를 곱한 것이 되어, 정변환 하나로 역변환을 계산할 수 있다.
+    public void inverse(ComplexArray data, ForkJoinPool pool) {
+        checkLength(data);
+        double[] re = data.realParts();
+        double[] im = data.imaginaryParts();
+        run(im, re, n >= PARALLEL_THRESHOLD ? pool : null);
+        double scale = 1.0 / n;
+        for (int i = 0; i < n; i++) {
+            re[i] *= scale;
+            im[i] *= scale;
+        }
+    }
+
+    private void run(double[] re, double[] im, ForkJoinPool pool) {
+        if (inner == null) {
+            radix2(re, im, pool);
+        } else {
+            bluestein(re, im, pool);
+        }
+    }
+
+    private void radix2(double[] re, double[] im, ForkJoinPool pool) {
+        for (int i = 0; i < n; i++) {
+            int j = reversed[i];
+            if (i < j) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+        }
+        for (int half = 1; half < n; half <<= 1) {
+            if (pool == null) {
+                butterflies(re, im, half, 0, n / 2);
+            } else {
+                pool.invoke(new StageAction(re, im, half, 0, n / 2));
+            }
+        }
+    }
+
+    // 한 단계의 나비 연산 n/2개 가운데 [from, to) 번째를 계산한다.
+    // 나비 연산끼리는 겹치는 칸이 없어서 구간을 나눠 병렬로 돌려도 결과가 같다.
+    private void butterflies(double[] re, double[] im, int half, int from, int to) {
+        int step = n / (2 * half);
+        for (int b = from; b < to; b++) {
+            int k = b & (half - 1);
+            int i = ((b - k) << 1) + k;
+            int j = i + half;
+            double wr = cos[k * step];
+            double wi = -sin[k * step];
+            double tr = re[j] * wr - im[j] * wi;
+            double ti = re[j] * wi + im[j] * wr;
+            re[j] = re[i] - tr;
+            im[j] = im[i] - ti;
+            re[i] += tr;
+            im[i] += ti;
+        }
+    }
+
+    // X[j] = c[j] * Σ (x[k] c[k]) conj(c[j - k]) 를 크기 m의 원형 합성곱으로 계산한다.
+    private void bluestein(double[] re, double[] im, ForkJoinPool pool) {
+        int m = inner.n;
+        ComplexArray work = new ComplexArray(m);
+        double[] wr = work.realParts();
+        double[] wi = work.imaginaryParts();
+        for (int k = 0; k < n; k++) {
+            wr[k] = re[k] * chirpRe[k] - im[k] * chirpIm[k];
+            wi[k] = re[k] * chirpIm[k] + im[k] * chirpRe[k];
+        }
+        inner.transform(work, pool);
+        work.timesInPlace(filter);
+        inner.inverse(work, pool);
+        for (int k = 0; k < n; k++) {
+            re[k] = wr[k] * chirpRe[k] - wi[k] * chirpIm[k];
+            im[k] = wr[k] * chirpIm[k] + wi[k] * chirpRe[k];
+        }
+    }
+
+    private Complex[] checkLength(Complex[] x) {
+        if (x.length != n) {
+            throw new IllegalArgumentException("expected " + n + " values but " + x.length);
+        }
+        return x;
+    }
+
+    private void checkLength(ComplexArray data) {
+        if (data.length() != n) {
+            throw new IllegalArgumentException("expected " + n + " values but " + data.length());
+        }
+    }
+
+    private static final class RecentlyUsed extends LinkedHashMap<Integer, Fft> {
+        private static final long serialVersionUID = -2917735105734630218L;
+
+        private final int maxSize;
+
+        RecentlyUsed(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Fft> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private final class StageAction extends RecursiveAction {
+        private static final long serialVersionUID = 6093450851720154218L;
+
+        private final double[] re, im;
+        private final int half, from, to;
+
+        StageAction(double[] re, double[] im, int half, int from, int to) {
+            this.re = re;
+            this.im = im;
+            this.half = half;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                butterflies(re, im, half, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new StageAction(re, im, half, from, mid), new StageAction(re, im, half, mid, to));
+        }
+    }
+}
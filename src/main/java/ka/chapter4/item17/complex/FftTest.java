@@ -0,0 +1,196 @@
+package ka.chapter4.item17.complex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FftTest {
+
+    @Nested
+    class Correctness {
+
+        @Test
+        @DisplayName("2의 거듭제곱이 아닌 크기까지 정의대로 계산한 DFT와 같다.")
+        void sameAsDft() {
+            Random random = new Random(48);
+            for (int n : new int[]{1, 2, 3, 4, 5, 7, 8, 12, 16, 17, 31, 64, 97, 100, 256, 1000}) {
+                Complex[] x = random(random, n);
+                Complex[] expected = dft(x);
+                Complex[] actual = Fft.forward(x);
+                for (int k = 0; k < n; k++) {
+                    assertClose(expected[k], actual[k], 1e-9 * n);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("역변환하면 원래 값으로 돌아온다.")
+        void roundTrip() {
+            Random random = new Random(48);
+            for (int n : new int[]{1, 6, 128, 1_023, 4_096, 10_007}) {
+                Complex[] x = random(random, n);
+                Complex[] back = Fft.backward(Fft.forward(x));
+                for (int k = 0; k < n; k++) {
+                    assertClose(x[k], back[k], 1e-9);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("병렬 모드는 순차 모드와 결과가 같다.")
+        void parallelSameAsSequential() {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                for (int n : new int[]{1 << 16, 50_000}) {
+                    Complex[] x = random(new Random(48), n);
+                    Fft fft = Fft.of(n);
+                    assertThat(ComplexArray.of(fft.transform(x, pool))).isEqualTo(ComplexArray.of(fft.transform(x)));
+                    assertThat(ComplexArray.of(fft.inverse(x, pool))).isEqualTo(ComplexArray.of(fft.inverse(x)));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("단위 임펄스의 변환은 모두 1이다.")
+        void impulse() {
+            Complex[] x = new Complex[12];
+            java.util.Arrays.fill(x, Complex.ZERO);
+            x[0] = Complex.ONE;
+            for (Complex value : Fft.forward(x)) {
+                assertClose(Complex.ONE, value, 1e-12);
+            }
+        }
+
+        @Test
+        @DisplayName("같은 크기는 같은 인스턴스를 재사용하고, 크기가 다르면 예외가 발생한다.")
+        void cachedPerSize() {
+            assertThat(Fft.of(1024)).isSameAs(Fft.of(1024));
+            assertThat(Fft.of(1000)).isSameAs(Fft.of(1000));
+            assertThat(Fft.of(1000).size()).isEqualTo(1000);
+            assertThrows(IllegalArgumentException.class, () -> Fft.of(0));
+            assertThrows(IllegalArgumentException.class, () -> Fft.of(8).transform(new Complex[4]));
+            assertThrows(IllegalArgumentException.class, () -> Fft.of(8).inverse(new ComplexArray(7)));
+        }
+
+        @Test
+        @DisplayName("Bluestein 크기는 최근에 쓴 것만 캐시에 남긴다.")
+        void bluesteinCacheIsBounded() {
+            for (int n = 3; n < 3 + 4 * Fft.BLUESTEIN_CACHE_SIZE; n += 2) {
+                assertThat(Fft.of(n).size()).isEqualTo(n);
+            }
+            assertThat(Fft.cachedBluesteinCount()).isEqualTo(Fft.BLUESTEIN_CACHE_SIZE);
+
+            // 방금 쓴 크기는 남아 있다.
+            Fft recent = Fft.of(3 + 4 * Fft.BLUESTEIN_CACHE_SIZE - 2);
+            assertThat(Fft.of(recent.size())).isSameAs(recent);
+        }
+    }
+
+    @Nested
+    class Benchmark {
+        private static final int SIZE = 1 << 18;
+        private static final int WARMUP_ROUNDS = 5;
+        private static final int MEASURE_ROUNDS = 5;
+
+        // Complex.plus, times로 직접 짠 재귀 FFT와 비교한다. 나비 연산마다 객체를 만든다.
+        @Test
+        @DisplayName("Complex로 짠 FFT보다 빠르다.")
+        void fftBenchmark() {
+            Complex[] x = random(new Random(48), SIZE);
+            Fft fft = Fft.of(SIZE);
+            ComplexArray data = ComplexArray.of(x);
+
+            long naive = Long.MAX_VALUE, engine = Long.MAX_VALUE, bluestein = Long.MAX_VALUE;
+            Complex[] expected = null;
+            Complex[] odd = random(new Random(49), SIZE - 1);
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                expected = recursiveFft(x);
+                long naiveTime = System.nanoTime() - startTime;
+
+                ComplexArray copy = data.copy();
+                startTime = System.nanoTime();
+                fft.transform(copy);
+                long engineTime = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                Fft.forward(odd);
+                long bluesteinTime = System.nanoTime() - startTime;
+
+                if (round >= WARMUP_ROUNDS) {
+                    naive = Math.min(naive, naiveTime);
+                    engine = Math.min(engine, engineTime);
+                    bluestein = Math.min(bluestein, bluesteinTime);
+                }
+                if (round == 0) {
+                    for (int k = 0; k < SIZE; k += 101) {
+                        assertClose(expected[k], copy.get(k), 1e-6);
+                    }
+                }
+            }
+            System.out.println("recursive Complex FFT = " + naive / 1_000_000.0 + "ms");
+            System.out.println("radix-2 Fft = " + engine / 1_000_000.0 + "ms");
+            System.out.println("Bluestein Fft (n = " + (SIZE - 1) + ") = " + bluestein / 1_000_000.0 + "ms");
+            assertThat(engine).isLessThan(naive);
+        }
+
+        private Complex[] recursiveFft(Complex[] x) {
+            int n = x.length;
+            if (n == 1) {
+                return new Complex[]{x[0]};
+            }
+            Complex[] even = new Complex[n / 2];
+            Complex[] odd = new Complex[n / 2];
+            for (int k = 0; k < n / 2; k++) {
+                even[k] = x[2 * k];
+                odd[k] = x[2 * k + 1];
+            }
+            Complex[] e = recursiveFft(even);
+            Complex[] o = recursiveFft(odd);
+            Complex[] y = new Complex[n];
+            for (int k = 0; k < n / 2; k++) {
+                double angle = -2 * Math.PI * k / n;
+                Complex t = new Complex(Math.cos(angle), Math.sin(angle)).times(o[k]);
+                y[k] = e[k].plus(t);
+                y[k + n / 2] = e[k].minus(t);
+            }
+            return y;
+        }
+    }
+
+    private static Complex[] dft(Complex[] x) {
+        int n = x.length;
+        Complex[] y = new Complex[n];
+        for (int k = 0; k < n; k++) {
+            Complex sum = Complex.ZERO;
+            for (int t = 0; t < n; t++) {
+                double angle = -2 * Math.PI * ((long) k * t % n) / n;
+                sum = sum.plus(x[t].times(new Complex(Math.cos(angle), Math.sin(angle))));
+            }
+            y[k] = sum;
+        }
+        return y;
+    }
+
+    private static void assertClose(Complex expected, Complex actual, double tolerance) {
+        assertThat(actual.realPart()).isCloseTo(expected.realPart(), within(tolerance));
+        assertThat(actual.imaginaryPart()).isCloseTo(expected.imaginaryPart(), within(tolerance));
+    }
+
+    private static Complex[] random(Random random, int size) {
+        Complex[] values = new Complex[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new Complex(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1);
+        }
+        return values;
+    }
+}
@@ -1,14 +1,22 @@
 package ka.chapter4.item17.functional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class CustomFunctionalFactory {
+    // 이보다 작은 목록은 병렬 버전을 불러도 순차로 처리한다.
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int MIN_CHUNK_SIZE = 1 << 11;
 
     public static <T> int findIdx(Set<T> set, Supplier<T> supplier) {
         int i = 0;
@@ -44,4 +52,125 @@ public class CustomFunctionalFactory {
         }
         return result;
     }
-}
\ No newline at end of file
+
+    // filter, map을 이어 붙여도 중간 목록 없이 한 번에 처리하는 지연 파이프라인
+    public static <T> Pipeline<T> lazy(List<T> list) {
+        return Pipeline.from(list);
+    }
+
+    public static <T> List<T> parallelFilter(List<T> list, Predicate<T> predicate) {
+        return parallelFilter(list, predicate, ForkJoinPool.commonPool());
+    }
+
+    // 목록을 구간으로 나눠 구간마다 통과한 원소를 따로 모은 뒤, 구간 순서대로 이어 붙여 원래 순서를 지킨다.
+    // 구간 결과는 구간 길이로, 최종 결과는 통과한 원소 수로 미리 크기를 정한 배열에 담는다.
+    public static <T> List<T> parallelFilter(List<T> list, Predicate<T> predicate, ForkJoinPool pool) {
+        if (list.size() < PARALLEL_THRESHOLD) {
+            return filter(list, predicate);
+        }
+        List<T> source = randomAccess(list);
+        int size = source.size();
+        int chunkSize = chunkSize(size, pool);
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        Object[][] parts = new Object[chunks][];
+        int[] counts = new int[chunks];
+
+        forEachChunk(pool, chunks, chunk -> {
+            int from = chunk * chunkSize;
+            int to = Math.min(from + chunkSize, size);
+            Object[] part = new Object[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                T item = source.get(i);
+                if (predicate.test(item)) {
+                    part[count++] = item;
+                }
+            }
+            parts[chunk] = part;
+            counts[chunk] = count;
+        });
+
+        int[] offsets = new int[chunks];
+        int total = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            offsets[chunk] = total;
+            total += counts[chunk];
+        }
+        Object[] result = new Object[total];
+        forEachChunk(pool, chunks, chunk -> System.arraycopy(parts[chunk], 0, result, offsets[chunk], counts[chunk]));
+        return toList(result);
+    }
+
+    public static <T, R> List<R> parallelMap(List<T> list, Function<T, R> function) {
+        return parallelMap(list, function, ForkJoinPool.commonPool());
+    }
+
+    // 결과 크기가 입력과 같으므로 결과 배열을 한 번에 만들고 구간마다 제자리에 채운다.
+    public static <T, R> List<R> parallelMap(List<T> list, Function<T, R> function, ForkJoinPool pool) {
+        if (list.size() < PARALLEL_THRESHOLD) {
+            return map(list, function);
+        }
+        List<T> source = randomAccess(list);
+        int size = source.size();
+        int chunkSize = chunkSize(size, pool);
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        Object[] result = new Object[size];
+
+        forEachChunk(pool, chunks, chunk -> {
+            int from = chunk * chunkSize;
+            int to = Math.min(from + chunkSize, size);
+            for (int i = from; i < to; i++) {
+                result[i] = function.apply(source.get(i));
+            }
+        });
+        return toList(result);
+    }
+
+    // ArrayList처럼 인덱스로 바로 읽을 수 있는 목록은 복사하지 않고 각 구간에서 그대로 읽는다.
+    // LinkedList처럼 인덱스 접근이 느린 목록만 배열로 한 번 옮긴다.
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> randomAccess(List<T> list) {
+        return list instanceof RandomAccess ? list : (List<T>) Arrays.asList(list.toArray());
+    }
+
+    // 결과는 순차 filter, map과 같은 ArrayList로 돌려준다. 복사는 여기서 한 번만 한다.
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> toList(Object[] result) {
+        return (List<T>) new ArrayList<>(Arrays.asList(result));
+    }
+
+    // 스레드마다 구간이 여러 개 돌아가도록 잘게 나눠 먼저 끝난 스레드가 남은 구간을 가져가게 한다.
+    private static int chunkSize(int size, ForkJoinPool pool) {
+        int chunks = pool.getParallelism() * 8;
+        return Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+    }
+
+    private static void forEachChunk(ForkJoinPool pool, int chunks, IntConsumer action) {
+        pool.invoke(new ChunkAction(0, chunks, action));
+    }
+
+    private static final class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = -4410563093127368512L;
+
+        private final int from, to;
+        private final IntConsumer action;
+
+        ChunkAction(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    action.accept(from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkAction(from, mid, action), new ChunkAction(mid, to, action));
+        }
+    }
+}
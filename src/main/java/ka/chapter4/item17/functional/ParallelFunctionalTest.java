@@ -0,0 +1,107 @@
+package ka.chapter4.item17.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelFunctionalTest {
+    @Test
+    void keepsEncounterOrderTest() {
+        List<String> stringList = strings(100_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<String> filtered = CustomFunctionalFactory.parallelFilter(stringList, (item) -> item.contains("7"), pool);
+            final List<Integer> mapped = CustomFunctionalFactory.parallelMap(stringList, String::length, pool);
+
+            assertThat(filtered).isEqualTo(CustomFunctionalFactory.filter(stringList, (item) -> item.contains("7")));
+            assertThat(mapped).isEqualTo(CustomFunctionalFactory.map(stringList, String::length));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void linkedListTest() {
+        List<String> stringList = new LinkedList<>(strings(CustomFunctionalFactory.PARALLEL_THRESHOLD * 3));
+
+        final List<String> filtered = CustomFunctionalFactory.parallelFilter(stringList, (item) -> item.endsWith("3"));
+
+        assertThat(filtered).isEqualTo(CustomFunctionalFactory.filter(stringList, (item) -> item.endsWith("3")));
+    }
+
+    @Test
+    void edgeCaseTest() {
+        List<String> small = strings(10);
+        List<String> large = strings(CustomFunctionalFactory.PARALLEL_THRESHOLD * 2);
+
+        // 임계값보다 작으면 순차로 처리한다.
+        assertThat(CustomFunctionalFactory.parallelMap(small, String::length)).isEqualTo(CustomFunctionalFactory.map(small, String::length));
+        assertThat(CustomFunctionalFactory.parallelFilter(new ArrayList<String>(), (item) -> true)).isEmpty();
+        // 모두 걸러지거나 모두 통과해도 결과 크기가 맞아야 한다.
+        assertThat(CustomFunctionalFactory.parallelFilter(large, (item) -> false)).isEmpty();
+        assertThat(CustomFunctionalFactory.parallelFilter(large, (item) -> true)).isEqualTo(large);
+
+        // 결과는 입력 크기와 상관없이 기존 filter, map처럼 수정할 수 있는 ArrayList다.
+        List<Integer> mapped = CustomFunctionalFactory.parallelMap(large, String::length);
+        assertThat(mapped).isInstanceOf(ArrayList.class);
+        assertThat(CustomFunctionalFactory.parallelFilter(large, (item) -> true)).isInstanceOf(ArrayList.class);
+        mapped.add(0);
+        assertThat(mapped).hasSize(large.size() + 1);
+    }
+
+    @Test
+    void predicateExceptionTest() {
+        List<String> stringList = strings(CustomFunctionalFactory.PARALLEL_THRESHOLD * 2);
+        boolean thrown = false;
+        try {
+            CustomFunctionalFactory.parallelFilter(stringList, (item) -> {
+                if (item.equals("string 12345")) {
+                    throw new IllegalStateException(item);
+                }
+                return true;
+            });
+        } catch (IllegalStateException e) {
+            thrown = true;
+        }
+        assertThat(thrown).isTrue();
+    }
+
+    // 이 환경의 코어 수에 따라 속도 차이가 크게 달라지므로 시간은 출력만 하고 결과가 같은지만 확인한다.
+    @Test
+    void benchmarkTest() {
+        List<String> stringList = strings(1_000_000);
+        List<String> sequential = null;
+        List<String> parallel = null;
+        long sequentialBest = Long.MAX_VALUE;
+        long parallelBest = Long.MAX_VALUE;
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            sequential = CustomFunctionalFactory.map(
+                    CustomFunctionalFactory.filter(stringList, (item) -> item.hashCode() % 3 != 0), (item) -> item.toUpperCase());
+            sequentialBest = Math.min(sequentialBest, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            parallel = CustomFunctionalFactory.parallelMap(
+                    CustomFunctionalFactory.parallelFilter(stringList, (item) -> item.hashCode() % 3 != 0), (item) -> item.toUpperCase());
+            parallelBest = Math.min(parallelBest, System.nanoTime() - start);
+        }
+
+        System.out.printf("parallelism=%d sequential=%dms parallel=%dms%n",
+                ForkJoinPool.commonPool().getParallelism(), sequentialBest / 1_000_000, parallelBest / 1_000_000);
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    private static List<String> strings(int count) {
+        List<String> stringList = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            stringList.add("string " + i);
+        }
+        return stringList;
+    }
+}
@@ -0,0 +1,148 @@
+package ka.chapter4.item17.functional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// CustomFunctionalFactory.filter, map을 이어 부르면 단계마다 중간 ArrayList를 만들고 목록을 다시 훑는다.
+// Pipeline은 filter, map, limit 단계를 기록만 해 두었다가 toList, forEach, reduce를 부를 때
+// 단계들을 Sink 하나로 엮어 원본을 한 번만 훑는다. 중간 컬렉션은 만들지 않는다.
+// 단계를 붙일 때마다 새 Pipeline을 돌려주므로 같은 Pipeline으로 종료 연산을 여러 번 불러도 된다.
+public final class Pipeline<T> {
+    private static final int UNKNOWN = -1;
+
+    // 원소를 받아 처리하고, 더 받을 필요가 없으면 false를 돌려준다. limit이 원본 순회를 일찍 끝낼 때 쓴다.
+    interface Sink<T> {
+        boolean accept(T t);
+    }
+
+    // 이 Pipeline이 내보낸 원소를 받을 Sink를 원본 원소를 받는 Sink로 감싼다.
+    private interface Wrapper<T> {
+        Sink<Object> wrap(Sink<? super T> downstream);
+    }
+
+    private final List<?> source;
+    private final Wrapper<T> wrapper;
+    // filter가 없으면 결과 크기가 min(원본 크기, maxSize)로 정해진다.
+    private final boolean filtered;
+    private final int maxSize;
+
+    private Pipeline(List<?> source, Wrapper<T> wrapper, boolean filtered, int maxSize) {
+        this.source = source;
+        this.wrapper = wrapper;
+        this.filtered = filtered;
+        this.maxSize = maxSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Pipeline<T> from(List<T> list) {
+        return new Pipeline<>(list, downstream -> (Sink<Object>) downstream, false, Integer.MAX_VALUE);
+    }
+
+    public Pipeline<T> filter(Predicate<T> predicate) {
+        Wrapper<T> upstream = wrapper;
+        return new Pipeline<>(source, downstream -> upstream.wrap((T item) -> !predicate.test(item) || downstream.accept(item)), true, maxSize);
+    }
+
+    public <R> Pipeline<R> map(Function<T, R> function) {
+        Wrapper<T> upstream = wrapper;
+        return new Pipeline<>(source, downstream -> upstream.wrap((T item) -> downstream.accept(function.apply(item))), filtered, maxSize);
+    }
+
+    public Pipeline<T> limit(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        Wrapper<T> upstream = wrapper;
+        int limit = Math.min(this.maxSize, maxSize);
+        // 종료 연산마다 wrap이 새로 불리므로 센 개수가 다음 실행으로 넘어가지 않는다.
+        return new Pipeline<>(source, downstream -> upstream.wrap(new Sink<T>() {
+            private int count;
+
+            @Override
+            public boolean accept(T item) {
+                if (count >= maxSize) {
+                    return false;
+                }
+                count++;
+                return downstream.accept(item) && count < maxSize;
+            }
+        }), filtered, limit);
+    }
+
+    public List<T> toList() {
+        int knownSize = knownSize();
+        List<T> result = knownSize == UNKNOWN ? new ArrayList<>() : new ArrayList<>(knownSize);
+        run(item -> {
+            result.add(item);
+            return true;
+        });
+        return result;
+    }
+
+    public void forEach(Consumer<? super T> consumer) {
+        run(item -> {
+            consumer.accept(item);
+            return true;
+        });
+    }
+
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Object[] result = {identity};
+        run(item -> {
+            result[0] = accumulator.apply(cast(result[0]), item);
+            return true;
+        });
+        return cast(result[0]);
+    }
+
+    // 크기를 미리 알면 map 함수를 부르지 않고 바로 돌려준다.
+    public int count() {
+        int knownSize = knownSize();
+        if (knownSize != UNKNOWN) {
+            return knownSize;
+        }
+        int[] count = new int[1];
+        run(item -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    // 원본이 바뀌었을 수 있으므로 종료 연산 때마다 다시 계산한다.
+    private int knownSize() {
+        return filtered ? UNKNOWN : Math.min(source.size(), maxSize);
+    }
+
+    private void run(Sink<? super T> terminal) {
+        if (maxSize == 0) {
+            return;
+        }
+        Sink<Object> sink = wrapper.wrap(terminal);
+        if (source instanceof RandomAccess) {
+            for (int i = 0, size = source.size(); i < size; i++) {
+                if (!sink.accept(source.get(i))) {
+                    return;
+                }
+            }
+            return;
+        }
+        Iterator<?> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            if (!sink.accept(iterator.next())) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
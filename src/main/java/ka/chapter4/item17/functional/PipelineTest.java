@@ -0,0 +1,136 @@
+package ka.chapter4.item17.functional;
+
+import ka.chapter4.ThreadAllocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PipelineTest {
+    @Test
+    void filterMapTest() {
+        List<String> stringList = strings(100);
+
+        final List<String> eager = CustomFunctionalFactory.map(
+                CustomFunctionalFactory.filter(stringList, (item) -> item.contains("1")), (item) -> item.concat("^_^"));
+        final List<String> lazy = CustomFunctionalFactory.lazy(stringList)
+                .filter((item) -> item.contains("1"))
+                .map((item) -> item.concat("^_^"))
+                .toList();
+
+        assertThat(lazy).isEqualTo(eager);
+    }
+
+    @Test
+    void limitStopsEarlyTest() {
+        List<String> stringList = strings(100);
+        List<String> visited = new ArrayList<>();
+
+        final List<Integer> lengths = CustomFunctionalFactory.lazy(stringList)
+                .filter((item) -> {
+                    visited.add(item);
+                    return item.endsWith("0");
+                })
+                .map(String::length)
+                .limit(3)
+                .toList();
+
+        // string 10, 20, 30까지만 보고 멈춘다.
+        assertThat(lengths).containsExactly(9, 9, 9);
+        assertThat(visited).hasSize(30);
+        assertThat(CustomFunctionalFactory.lazy(stringList).limit(0).toList()).isEmpty();
+    }
+
+    @Test
+    void reduceAndCountTest() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            numbers.add(i);
+        }
+
+        final Pipeline<Integer> evens = CustomFunctionalFactory.lazy(numbers).filter((item) -> item % 2 == 0);
+
+        assertThat(evens.reduce(0, Integer::sum)).isEqualTo(2550);
+        assertThat(evens.count()).isEqualTo(50);
+        assertThat(evens.map((item) -> item * 10).limit(5).reduce(0, Integer::sum)).isEqualTo(300);
+        // 종료 연산을 다시 불러도 limit의 개수는 처음부터 센다.
+        final Pipeline<Integer> firstTwo = evens.limit(2);
+        assertThat(firstTwo.toList()).containsExactly(2, 4);
+        assertThat(firstTwo.toList()).containsExactly(2, 4);
+        assertThat(CustomFunctionalFactory.lazy(numbers).map((item) -> item * 2).limit(10).count()).isEqualTo(10);
+    }
+
+    @Test
+    void linkedListAndForEachTest() {
+        List<String> stringList = new LinkedList<>(strings(10));
+        List<String> result = new ArrayList<>();
+
+        CustomFunctionalFactory.lazy(stringList)
+                .map((item) -> item.replace("string", "s"))
+                .forEach(result::add);
+
+        assertThat(result).hasSize(10);
+        assertThat(result.get(9)).isEqualTo("s 10");
+    }
+
+    @Test
+    void pipelineBenchmark() {
+        List<String> stringList = strings(1_000_000);
+        int warmup = 5, rounds = 5;
+
+        long eager = Long.MAX_VALUE, lazy = Long.MAX_VALUE, stream = Long.MAX_VALUE;
+        long eagerBytes = Long.MAX_VALUE, lazyBytes = Long.MAX_VALUE;
+        int size = 0;
+        for (int round = 0; round < warmup + rounds; round++) {
+            long startBytes = ThreadAllocation.allocatedBytes();
+            long startTime = System.nanoTime();
+            size += CustomFunctionalFactory.map(CustomFunctionalFactory.map(
+                    CustomFunctionalFactory.filter(stringList, (item) -> item.length() % 2 == 0), String::length), (length) -> length * 2).size();
+            long eagerTime = System.nanoTime() - startTime;
+            eagerBytes = Math.min(eagerBytes, ThreadAllocation.allocatedBytes() - startBytes);
+
+            startBytes = ThreadAllocation.allocatedBytes();
+            startTime = System.nanoTime();
+            size += CustomFunctionalFactory.lazy(stringList)
+                    .filter((item) -> item.length() % 2 == 0)
+                    .map(String::length)
+                    .map((length) -> length * 2)
+                    .toList().size();
+            long lazyTime = System.nanoTime() - startTime;
+            lazyBytes = Math.min(lazyBytes, ThreadAllocation.allocatedBytes() - startBytes);
+
+            startTime = System.nanoTime();
+            size += stringList.stream()
+                    .filter((item) -> item.length() % 2 == 0)
+                    .map(String::length)
+                    .map((length) -> length * 2)
+                    .collect(Collectors.toList()).size();
+            long streamTime = System.nanoTime() - startTime;
+
+            if (round >= warmup) {
+                eager = Math.min(eager, eagerTime);
+                lazy = Math.min(lazy, lazyTime);
+                stream = Math.min(stream, streamTime);
+            }
+        }
+
+        // 시간 차이는 박싱과 람다 호출에 묻혀 작으므로, 중간 목록이 없어진 것을 할당량으로 확인한다.
+        System.out.println("eager filter + map + map = " + eager / 1_000_000.0 + "ms, " + eagerBytes + "B");
+        System.out.println("lazy pipeline = " + lazy / 1_000_000.0 + "ms, " + lazyBytes + "B");
+        System.out.println("java.util.stream = " + stream / 1_000_000.0 + "ms (" + size + ")");
+        ThreadAllocation.assumeSupported();
+        assertThat(lazyBytes).isLessThan(eagerBytes);
+    }
+
+    private static List<String> strings(int size) {
+        List<String> stringList = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            stringList.add("string " + i);
+        }
+        return stringList;
+    }
+}